@@ -0,0 +1,37 @@
+package io.vertx.jdbcclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter and mapper for {@link io.vertx.jdbcclient.JDBCBatchingOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.jdbcclient.JDBCBatchingOptions} original class using Vert.x codegen.
+ */
+public class JDBCBatchingOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, JDBCBatchingOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxBatchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxBatchSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(JDBCBatchingOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(JDBCBatchingOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxBatchSize", obj.getMaxBatchSize());
+    json.put("maxDelay", obj.getMaxDelay());
+  }
+}
@@ -72,6 +72,26 @@ public class JDBCConnectOptionsConverter {
             obj.setMaxRows(((Number)member.getValue()).intValue());
           }
           break;
+        case "lobInlineThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setLobInlineThreshold(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "offHeapRows":
+          if (member.getValue() instanceof Boolean) {
+            obj.setOffHeapRows((Boolean)member.getValue());
+          }
+          break;
+        case "lazyDecoding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLazyDecoding((Boolean)member.getValue());
+          }
+          break;
+        case "inListPaddingLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setInListPaddingLimit(((Number)member.getValue()).intValue());
+          }
+          break;
         case "jdbcUrl":
           if (member.getValue() instanceof String) {
             obj.setJdbcUrl((String)member.getValue());
@@ -117,6 +137,31 @@ public class JDBCConnectOptionsConverter {
             obj.setExtraConfig(((JsonObject)member.getValue()).copy());
           }
           break;
+        case "pipeliningLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setPipeliningLimit(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "resultCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setResultCacheMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "circuitBreakerFailureThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCircuitBreakerFailureThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "circuitBreakerInitialBackoff":
+          if (member.getValue() instanceof Number) {
+            obj.setCircuitBreakerInitialBackoff(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "circuitBreakerMaxBackoff":
+          if (member.getValue() instanceof Number) {
+            obj.setCircuitBreakerMaxBackoff(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -152,6 +197,10 @@ public class JDBCConnectOptionsConverter {
       json.put("autoGeneratedKeysIndexes", obj.getAutoGeneratedKeysIndexes());
     }
     json.put("maxRows", obj.getMaxRows());
+    json.put("lobInlineThreshold", obj.getLobInlineThreshold());
+    json.put("offHeapRows", obj.isOffHeapRows());
+    json.put("lazyDecoding", obj.isLazyDecoding());
+    json.put("inListPaddingLimit", obj.getInListPaddingLimit());
     if (obj.getJdbcUrl() != null) {
       json.put("jdbcUrl", obj.getJdbcUrl());
     }
@@ -175,5 +224,10 @@ public class JDBCConnectOptionsConverter {
     if (obj.getExtraConfig() != null) {
       json.put("extraConfig", obj.getExtraConfig());
     }
+    json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("resultCacheMaxSize", obj.getResultCacheMaxSize());
+    json.put("circuitBreakerFailureThreshold", obj.getCircuitBreakerFailureThreshold());
+    json.put("circuitBreakerInitialBackoff", obj.getCircuitBreakerInitialBackoff());
+    json.put("circuitBreakerMaxBackoff", obj.getCircuitBreakerMaxBackoff());
   }
 }
@@ -0,0 +1,57 @@
+package io.vertx.jdbcclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter and mapper for {@link io.vertx.jdbcclient.JDBCExportOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.jdbcclient.JDBCExportOptions} original class using Vert.x codegen.
+ */
+public class JDBCExportOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, JDBCExportOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "format":
+          if (member.getValue() instanceof String) {
+            obj.setFormat(io.vertx.jdbcclient.JDBCExportFormat.valueOf((String)member.getValue()));
+          }
+          break;
+        case "fetchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setFetchSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "bufferSize":
+          if (member.getValue() instanceof Number) {
+            obj.setBufferSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "header":
+          if (member.getValue() instanceof Boolean) {
+            obj.setHeader((Boolean)member.getValue());
+          }
+          break;
+        case "writeTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(JDBCExportOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(JDBCExportOptions obj, java.util.Map<String, Object> json) {
+    if (obj.getFormat() != null) {
+      json.put("format", obj.getFormat().name());
+    }
+    json.put("fetchSize", obj.getFetchSize());
+    json.put("bufferSize", obj.getBufferSize());
+    json.put("header", obj.isHeader());
+    json.put("writeTimeout", obj.getWriteTimeout());
+  }
+}
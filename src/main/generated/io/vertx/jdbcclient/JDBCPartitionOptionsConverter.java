@@ -0,0 +1,51 @@
+package io.vertx.jdbcclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter and mapper for {@link io.vertx.jdbcclient.JDBCPartitionOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.jdbcclient.JDBCPartitionOptions} original class using Vert.x codegen.
+ */
+public class JDBCPartitionOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, JDBCPartitionOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxConcurrency":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConcurrency(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "fetchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setFetchSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "sortColumn":
+          if (member.getValue() instanceof String) {
+            obj.setSortColumn((String)member.getValue());
+          }
+          break;
+        case "sortDescending":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSortDescending((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(JDBCPartitionOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(JDBCPartitionOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxConcurrency", obj.getMaxConcurrency());
+    json.put("fetchSize", obj.getFetchSize());
+    if (obj.getSortColumn() != null) {
+      json.put("sortColumn", obj.getSortColumn());
+    }
+    json.put("sortDescending", obj.isSortDescending());
+  }
+}
@@ -22,6 +22,26 @@ public class JDBCPrepareOptionsConverter {
             obj.setAutoGeneratedKeysIndexes(((JsonArray)member.getValue()).copy());
           }
           break;
+        case "cacheTtl":
+          if (member.getValue() instanceof Number) {
+            obj.setCacheTtl(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "cacheTables":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setCacheTables(list);
+          }
+          break;
+        case "readOnly":
+          if (member.getValue() instanceof Boolean) {
+            obj.setReadOnly((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -35,5 +55,12 @@ public class JDBCPrepareOptionsConverter {
     if (obj.getAutoGeneratedKeysIndexes() != null) {
       json.put("autoGeneratedKeysIndexes", obj.getAutoGeneratedKeysIndexes());
     }
+    json.put("cacheTtl", obj.getCacheTtl());
+    if (obj.getCacheTables() != null) {
+      JsonArray array = new JsonArray();
+      obj.getCacheTables().forEach(item -> array.add(item));
+      json.put("cacheTables", array);
+    }
+    json.put("readOnly", obj.isReadOnly());
   }
 }
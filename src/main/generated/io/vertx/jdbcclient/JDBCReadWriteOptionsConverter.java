@@ -0,0 +1,45 @@
+package io.vertx.jdbcclient;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter and mapper for {@link io.vertx.jdbcclient.JDBCReadWriteOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.jdbcclient.JDBCReadWriteOptions} original class using Vert.x codegen.
+ */
+public class JDBCReadWriteOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, JDBCReadWriteOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "healthCheckInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setHealthCheckInterval(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "healthCheckTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setHealthCheckTimeout(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "healthCheckQuery":
+          if (member.getValue() instanceof String) {
+            obj.setHealthCheckQuery((String)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(JDBCReadWriteOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(JDBCReadWriteOptions obj, java.util.Map<String, Object> json) {
+    json.put("healthCheckInterval", obj.getHealthCheckInterval());
+    json.put("healthCheckTimeout", obj.getHealthCheckTimeout());
+    if (obj.getHealthCheckQuery() != null) {
+      json.put("healthCheckQuery", obj.getHealthCheckQuery());
+    }
+  }
+}
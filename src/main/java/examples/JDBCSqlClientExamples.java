@@ -1,16 +1,39 @@
 package examples;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.docgen.Source;
+import io.vertx.jdbcclient.JDBCBatcher;
+import io.vertx.jdbcclient.JDBCBatchingOptions;
 import io.vertx.jdbcclient.JDBCConnectOptions;
+import io.vertx.jdbcclient.JDBCExportFormat;
+import io.vertx.jdbcclient.JDBCExportOptions;
+import io.vertx.jdbcclient.JDBCPartitionOptions;
 import io.vertx.jdbcclient.JDBCPool;
+import io.vertx.jdbcclient.JDBCPrepareOptions;
+import io.vertx.jdbcclient.JDBCReadWriteOptions;
+import io.vertx.jdbcclient.JDBCReadWritePool;
+import io.vertx.jdbcclient.JDBCUtils;
+import io.vertx.jdbcclient.SqlInList;
+import io.vertx.jdbcclient.SqlLob;
+import io.vertx.jdbcclient.SqlLobParam;
+import io.vertx.jdbcclient.ShardRouter;
+import io.vertx.jdbcclient.ShardedJDBCPool;
 import io.vertx.jdbcclient.SqlOutParam;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.RowStream;
 import io.vertx.sqlclient.Tuple;
 
 import java.sql.JDBCType;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -100,6 +123,185 @@ public class JDBCSqlClientExamples {
       });
   }
 
+  public void examplePipelining(Vertx vertx, List<String> names) {
+    JDBCConnectOptions connectOptions = new JDBCConnectOptions()
+      .setJdbcUrl("jdbc:h2:~/test")
+      // up to 32 statements executed in a single worker task
+      .setPipeliningLimit(32);
+    Pool pool = JDBCPool.pool(vertx, connectOptions, new PoolOptions());
+
+    pool.withTransaction(conn -> {
+      List<Future<RowSet<Row>>> inserts = new ArrayList<>();
+      for (String name : names) {
+        inserts.add(conn
+          .preparedQuery("INSERT INTO user (name) VALUES (?)")
+          .execute(Tuple.of(name)));
+      }
+      return Future.all(inserts);
+    });
+  }
+
+  public void exampleBatcher(Vertx vertx, Pool pool) {
+    JDBCBatcher batcher = JDBCBatcher.create(vertx, pool, new JDBCBatchingOptions()
+      .setMaxBatchSize(256)
+      .setMaxDelay(2));
+
+    // concurrent executions of the same statement share a batch
+    batcher
+      .execute("INSERT INTO events (type, payload) VALUES (?, ?)", Tuple.of("click", "{}"))
+      .onSuccess(updated -> {
+        // the number of rows inserted by this execution
+      });
+  }
+
+  public void exampleResultCache(Pool pool) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions()
+      // cache the result for 30 seconds
+      .setCacheTtl(30_000)
+      // or until the countries table is modified through the pool
+      .addCacheTable("countries");
+
+    pool
+      .preparedQuery("SELECT name FROM countries WHERE code = ?", options)
+      .execute(Tuple.of("PT"))
+      .onSuccess(rows -> {
+        // the rows
+      });
+  }
+
+  public void exampleReadWritePool(Vertx vertx) {
+    Pool primary = JDBCPool.pool(vertx, new JDBCConnectOptions().setJdbcUrl("jdbc:postgresql://primary/db"), new PoolOptions());
+    Pool replica1 = JDBCPool.pool(vertx, new JDBCConnectOptions().setJdbcUrl("jdbc:postgresql://replica1/db"), new PoolOptions());
+    Pool replica2 = JDBCPool.pool(vertx, new JDBCConnectOptions().setJdbcUrl("jdbc:postgresql://replica2/db"), new PoolOptions());
+
+    JDBCReadWritePool pool = JDBCReadWritePool.create(vertx, primary, Arrays.asList(replica1, replica2), new JDBCReadWriteOptions()
+      .setHealthCheckInterval(10_000));
+
+    // executed by a replica
+    pool.execute("SELECT * FROM orders WHERE id = ?", Tuple.of(1), new JDBCPrepareOptions().setReadOnly(true));
+
+    // executed by the primary
+    pool.execute("UPDATE orders SET status = ? WHERE id = ?", Tuple.of("SHIPPED", 1), new JDBCPrepareOptions());
+  }
+
+  public void exampleFailover(Vertx vertx) {
+    Pool pool = JDBCPool.pool(vertx, Arrays.asList(
+      new JDBCConnectOptions()
+        .setJdbcUrl("jdbc:postgresql://primary/db")
+        .setConnectTimeout(2_000)
+        .setCircuitBreakerFailureThreshold(3)
+        .setCircuitBreakerMaxBackoff(60_000),
+      new JDBCConnectOptions()
+        .setJdbcUrl("jdbc:postgresql://standby/db")
+        .setConnectTimeout(2_000)), new PoolOptions().setMaxSize(16));
+  }
+
+  public void exampleShardedPool(Vertx vertx, List<JDBCConnectOptions> shards) {
+    // the customer id is the first parameter of the statements
+    ShardedJDBCPool pool = ShardedJDBCPool.pool(vertx, shards, new PoolOptions().setMaxSize(4), ShardRouter.byParameter(0));
+
+    // executed by the shard of customer 42
+    pool.execute("SELECT * FROM orders WHERE customer_id = ?", Tuple.of(42));
+
+    // executed by all the shards, the results are merged
+    pool
+      .executeAll("SELECT * FROM orders WHERE status = ?", Tuple.of("PENDING"))
+      .onSuccess(rows -> System.out.println("Got " + rows.size() + " pending orders"));
+  }
+
+  public void examplePartitionedQuery(Vertx vertx, Pool pool) {
+    // one partition per range of ids
+    List<Tuple> ranges = Arrays.asList(
+      Tuple.of(0, 1_000_000),
+      Tuple.of(1_000_000, 2_000_000),
+      Tuple.of(2_000_000, 3_000_000));
+
+    RowStream<Row> stream = JDBCPool.partitionedQuery(vertx, pool,
+      "SELECT * FROM events WHERE id >= ? AND id < ? ORDER BY created_at",
+      ranges,
+      new JDBCPartitionOptions()
+        .setMaxConcurrency(3)
+        .setSortColumn("created_at"));
+
+    stream
+      .exceptionHandler(err -> System.out.println("Failure: " + err.getMessage()))
+      .endHandler(v -> System.out.println("End of the scan"))
+      .handler(row -> System.out.println("Event " + row.getValue("id")));
+  }
+
+  public void exampleBulkLoad(Pool pool, ReadStream<Tuple> rows) {
+    JDBCPool
+      .bulkLoad(pool, "events", Arrays.asList("id", "type", "created_at"), rows)
+      .onSuccess(count -> System.out.println("Loaded " + count + " rows"));
+  }
+
+  public void exampleExport(Vertx vertx, Pool pool) {
+    vertx.fileSystem()
+      .open("orders.csv", new OpenOptions().setWrite(true).setTruncateExisting(true))
+      .compose(file -> JDBCPool
+        .export(pool, "SELECT * FROM orders WHERE created_at >= ?", Tuple.of(LocalDate.of(2024, 1, 1)), file, new JDBCExportOptions()
+          .setFormat(JDBCExportFormat.CSV)
+          .setFetchSize(5_000))
+        .eventually(() -> file.close()))
+      .onSuccess(count -> System.out.println("Exported " + count + " rows"));
+  }
+
+  public void exampleOffHeapRows(Vertx vertx) {
+    Pool pool = JDBCPool.pool(vertx, new JDBCConnectOptions()
+      .setJdbcUrl("jdbc:postgresql://reporting/db")
+      .setOffHeapRows(true), new PoolOptions());
+
+    pool
+      .query("SELECT * FROM daily_sales")
+      .execute()
+      .onSuccess(rows -> {
+        for (Row row : rows) {
+          // values are decoded on access
+          System.out.println(row.getString("region") + ": " + row.getBigDecimal("total"));
+        }
+        // release the memory now rather than when the rows are garbage collected
+        JDBCUtils.release(rows);
+      });
+  }
+
+  public void exampleLazyDecoding(Vertx vertx) {
+    Pool pool = JDBCPool.pool(vertx, new JDBCConnectOptions()
+      .setJdbcUrl("jdbc:postgresql://reporting/db")
+      .setLazyDecoding(true), new PoolOptions());
+
+    pool
+      .query("SELECT * FROM customers")
+      .execute()
+      .onSuccess(rows -> {
+        for (Row row : rows) {
+          // only the email column is decoded
+          System.out.println(row.getString("email"));
+        }
+      });
+  }
+
+  public void exampleArrayParameter(Pool pool) {
+    pool
+      .preparedQuery("SELECT * FROM users WHERE id = ANY(?)")
+      .execute(Tuple.of(Arrays.asList(1, 5, 8)))
+      .onSuccess(rows -> {
+        for (Row row : rows) {
+          System.out.println(row.getString("name"));
+        }
+      });
+  }
+
+  public void exampleInList(Pool pool, List<Integer> ids) {
+    pool
+      .preparedQuery("SELECT * FROM users WHERE id IN (?)")
+      .execute(Tuple.of(SqlInList.of(ids)))
+      .onSuccess(rows -> {
+        for (Row row : rows) {
+          System.out.println(row.getString("name"));
+        }
+      });
+  }
+
   public void exampleCallableIN(JDBCPool pool) {
 
     // callable statements must ad-here to the JDBC spec
@@ -180,4 +382,36 @@ public class JDBCSqlClientExamples {
           .map(r -> r.getLong(0)).collect(Collectors.toList());
       });
   }
+
+  public void exampleStreamLob(Vertx vertx, WriteStream<Buffer> output) {
+    JDBCConnectOptions connectOptions = new JDBCConnectOptions()
+      .setJdbcUrl("jdbc:h2:~/test")
+      // LOBs larger than 1MB are streamed
+      .setLobInlineThreshold(1024 * 1024);
+    Pool pool = JDBCPool.pool(vertx, connectOptions, new PoolOptions());
+
+    pool
+      // the LOB can only be read while the connection is held
+      .withConnection(conn -> conn
+        .preparedQuery("SELECT content FROM documents WHERE id = ?")
+        .execute(Tuple.of(1))
+        .compose(rows -> {
+          Object content = rows.iterator().next().getValue("CONTENT");
+          if (content instanceof SqlLob) {
+            return ((SqlLob) content).stream().pipeTo(output);
+          } else {
+            return output.write((Buffer) content);
+          }
+        }));
+  }
+
+  public void exampleStreamLobParam(Vertx vertx, Pool pool) {
+    vertx.fileSystem()
+      .open("report.pdf", new OpenOptions().setRead(true))
+      .compose(file -> pool
+        .preparedQuery("INSERT INTO documents (name, content) VALUES (?, ?)")
+        // the file is piped to the driver while the statement executes
+        .execute(Tuple.of("report.pdf", SqlLobParam.BLOB(file)))
+        .eventually(file::close));
+  }
 }
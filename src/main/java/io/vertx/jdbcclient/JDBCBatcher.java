@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.jdbcclient.impl.JDBCBatcherImpl;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Coalesces concurrent executions of the same {@code INSERT}/{@code UPDATE}/{@code DELETE} statement into a single
+ * batch.
+ * <p>
+ * Executions of the same SQL are collected until the batch reaches {@link JDBCBatchingOptions#getMaxBatchSize()} or
+ * the oldest execution waited {@link JDBCBatchingOptions#getMaxDelay()}, the batch is then executed in a transaction on
+ * one pooled connection and each caller receives its own update count.
+ * <p>
+ * When the driver fails to execute the batch, e.g. with a {@link java.sql.BatchUpdateException}, the transaction is
+ * rolled back before anything is committed and its executions are retried one by one so only the faulty ones fail. Any
+ * other failure, e.g. the commit fails, might have left the batch applied: the executions are not retried and all of
+ * them fail with the error.
+ */
+@VertxGen
+public interface JDBCBatcher {
+
+  /**
+   * Create a batcher executing the batches on the given pool.
+   *
+   * @param vertx the Vert.x instance
+   * @param pool the pool executing the batches
+   * @param options the batching options
+   * @return the batcher
+   */
+  static JDBCBatcher create(Vertx vertx, Pool pool, JDBCBatchingOptions options) {
+    return new JDBCBatcherImpl(vertx, pool, options);
+  }
+
+  /**
+   * Execute a statement as part of a batch.
+   *
+   * @param sql the statement
+   * @param params the parameters of the statement
+   * @return a future notified with the number of rows affected by this execution
+   */
+  Future<Integer> execute(String sql, Tuple params);
+
+  /**
+   * Execute the pending batches without waiting for their delay to expire.
+   *
+   * @return a future notified when the pending batches have been executed
+   */
+  Future<Void> flush();
+}
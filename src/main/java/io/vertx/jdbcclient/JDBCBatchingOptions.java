@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a {@link JDBCBatcher}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class JDBCBatchingOptions {
+
+  /**
+   * Default maximum number of executions grouped in a batch = 128
+   */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
+  /**
+   * Default maximum time in milliseconds an execution waits for others to join its batch = 5
+   */
+  public static final long DEFAULT_MAX_DELAY = 5;
+
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private long maxDelay = DEFAULT_MAX_DELAY;
+
+  public JDBCBatchingOptions() {
+  }
+
+  public JDBCBatchingOptions(JDBCBatchingOptions other) {
+    this.maxBatchSize = other.maxBatchSize;
+    this.maxDelay = other.maxDelay;
+  }
+
+  public JDBCBatchingOptions(JsonObject json) {
+    JDBCBatchingOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of executions grouped in a batch
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Set the maximum number of executions grouped in a batch, a batch reaching this size is executed immediately.
+   *
+   * @param maxBatchSize the maximum batch size, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCBatchingOptions setMaxBatchSize(int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be > 0");
+    }
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum time in milliseconds an execution waits for others to join its batch
+   */
+  public long getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * Set the maximum time in milliseconds an execution waits for others to join its batch, this bounds the latency
+   * added to an execution when the load is low.
+   *
+   * @param maxDelay the maximum delay, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCBatchingOptions setMaxDelay(long maxDelay) {
+    if (maxDelay < 1) {
+      throw new IllegalArgumentException("maxDelay must be > 0");
+    }
+    this.maxDelay = maxDelay;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    JDBCBatchingOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -25,6 +25,31 @@ import io.vertx.core.tracing.TracingPolicy;
 @JsonGen(publicConverter = false)
 public class JDBCConnectOptions extends SqlOptions {
 
+  /**
+   * The default pipelining limit = 1, each statement is executed in its own worker task
+   */
+  public static final int DEFAULT_PIPELINING_LIMIT = 1;
+
+  /**
+   * The default maximum number of query results cached by a pool = 1024
+   */
+  public static final int DEFAULT_RESULT_CACHE_MAX_SIZE = 1024;
+
+  /**
+   * The default number of consecutive connect failures opening the circuit breaker of an endpoint = 1
+   */
+  public static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 1;
+
+  /**
+   * The default time in milliseconds an endpoint is skipped after its circuit breaker opened = 1000
+   */
+  public static final long DEFAULT_CIRCUIT_BREAKER_INITIAL_BACKOFF = 1000;
+
+  /**
+   * The default maximum time in milliseconds an endpoint is skipped after its circuit breaker opened = 30000
+   */
+  public static final long DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF = 30000;
+
   private String jdbcUrl;
   private String user;
   private String password;
@@ -34,6 +59,11 @@ public class JDBCConnectOptions extends SqlOptions {
   private TracingPolicy tracingPolicy = TracingPolicy.PROPAGATE;
   private JsonObject extraConfig;
   private String metricsName = "";
+  private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+  private int resultCacheMaxSize = DEFAULT_RESULT_CACHE_MAX_SIZE;
+  private int circuitBreakerFailureThreshold = DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD;
+  private long circuitBreakerInitialBackoff = DEFAULT_CIRCUIT_BREAKER_INITIAL_BACKOFF;
+  private long circuitBreakerMaxBackoff = DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF;
 
   public JDBCConnectOptions() {}
 
@@ -52,6 +82,11 @@ public class JDBCConnectOptions extends SqlOptions {
     this.tracingPolicy = other.tracingPolicy;
     this.extraConfig = other.extraConfig != null ? other.extraConfig.copy() : null;
     this.metricsName = other.metricsName;
+    this.pipeliningLimit = other.pipeliningLimit;
+    this.resultCacheMaxSize = other.resultCacheMaxSize;
+    this.circuitBreakerFailureThreshold = other.circuitBreakerFailureThreshold;
+    this.circuitBreakerInitialBackoff = other.circuitBreakerInitialBackoff;
+    this.circuitBreakerMaxBackoff = other.circuitBreakerMaxBackoff;
   }
 
   public String getJdbcUrl() {
@@ -94,6 +129,13 @@ public class JDBCConnectOptions extends SqlOptions {
     return connectTimeout;
   }
 
+  /**
+   * Set the connect timeout in milliseconds. It is enforced for the pools created with several endpoints: an attempt
+   * exceeding it fails and the next endpoint is tried, while the blocked worker is released once the driver gives up.
+   *
+   * @param connectTimeout the connect timeout, {@code 0} for no timeout
+   * @return a reference to this, so the API can be used fluently
+   */
   public JDBCConnectOptions setConnectTimeout(int connectTimeout) {
     this.connectTimeout = connectTimeout;
     return this;
@@ -154,6 +196,116 @@ public class JDBCConnectOptions extends SqlOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of statements a connection executes in a single worker task
+   */
+  public int getPipeliningLimit() {
+    return pipeliningLimit;
+  }
+
+  /**
+   * Set the maximum number of statements a connection accepts before their results are available. Statements queued
+   * on a connection are executed sequentially in a single worker task and their results are delivered together,
+   * saving a worker hand-off per statement. The default ({@code 1}) executes each statement in its own task.
+   *
+   * @param pipeliningLimit the pipelining limit, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCConnectOptions setPipeliningLimit(int pipeliningLimit) {
+    if (pipeliningLimit < 1) {
+      throw new IllegalArgumentException("pipeliningLimit must be > 0");
+    }
+    this.pipeliningLimit = pipeliningLimit;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of query results cached by the pool
+   */
+  public int getResultCacheMaxSize() {
+    return resultCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of query results cached by the pool, results are only cached for the queries executed
+   * with a {@link JDBCPrepareOptions#setCacheTtl(long) cache TTL}.
+   *
+   * @param resultCacheMaxSize the maximum number of cached results, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCConnectOptions setResultCacheMaxSize(int resultCacheMaxSize) {
+    if (resultCacheMaxSize < 1) {
+      throw new IllegalArgumentException("resultCacheMaxSize must be > 0");
+    }
+    this.resultCacheMaxSize = resultCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the number of consecutive connect failures opening the circuit breaker of an endpoint
+   */
+  public int getCircuitBreakerFailureThreshold() {
+    return circuitBreakerFailureThreshold;
+  }
+
+  /**
+   * Set the number of consecutive connect failures opening the circuit breaker of an endpoint, when a pool is created
+   * with several endpoints an endpoint whose circuit breaker is open is skipped until its backoff elapsed.
+   *
+   * @param circuitBreakerFailureThreshold the failure threshold, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCConnectOptions setCircuitBreakerFailureThreshold(int circuitBreakerFailureThreshold) {
+    if (circuitBreakerFailureThreshold < 1) {
+      throw new IllegalArgumentException("circuitBreakerFailureThreshold must be > 0");
+    }
+    this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds an endpoint is skipped after its circuit breaker opened
+   */
+  public long getCircuitBreakerInitialBackoff() {
+    return circuitBreakerInitialBackoff;
+  }
+
+  /**
+   * Set the time in milliseconds an endpoint is skipped after its circuit breaker opened, the backoff doubles each time
+   * the connection attempt made once it elapsed fails.
+   *
+   * @param circuitBreakerInitialBackoff the initial backoff
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCConnectOptions setCircuitBreakerInitialBackoff(long circuitBreakerInitialBackoff) {
+    if (circuitBreakerInitialBackoff < 0) {
+      throw new IllegalArgumentException("circuitBreakerInitialBackoff must be >= 0");
+    }
+    this.circuitBreakerInitialBackoff = circuitBreakerInitialBackoff;
+    return this;
+  }
+
+  /**
+   * @return the maximum time in milliseconds an endpoint is skipped after its circuit breaker opened
+   */
+  public long getCircuitBreakerMaxBackoff() {
+    return circuitBreakerMaxBackoff;
+  }
+
+  /**
+   * Set the maximum time in milliseconds an endpoint is skipped after its circuit breaker opened.
+   *
+   * @param circuitBreakerMaxBackoff the maximum backoff
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCConnectOptions setCircuitBreakerMaxBackoff(long circuitBreakerMaxBackoff) {
+    if (circuitBreakerMaxBackoff < 0) {
+      throw new IllegalArgumentException("circuitBreakerMaxBackoff must be >= 0");
+    }
+    this.circuitBreakerMaxBackoff = circuitBreakerMaxBackoff;
+    return this;
+  }
+
   // overrides
 
   @Override
@@ -228,6 +380,30 @@ public class JDBCConnectOptions extends SqlOptions {
     return this;
   }
 
+  @Override
+  public JDBCConnectOptions setLobInlineThreshold(long lobInlineThreshold) {
+    super.setLobInlineThreshold(lobInlineThreshold);
+    return this;
+  }
+
+  @Override
+  public JDBCConnectOptions setOffHeapRows(boolean offHeapRows) {
+    super.setOffHeapRows(offHeapRows);
+    return this;
+  }
+
+  @Override
+  public JDBCConnectOptions setLazyDecoding(boolean lazyDecoding) {
+    super.setLazyDecoding(lazyDecoding);
+    return this;
+  }
+
+  @Override
+  public JDBCConnectOptions setInListPaddingLimit(int inListPaddingLimit) {
+    super.setInListPaddingLimit(inListPaddingLimit);
+    return this;
+  }
+
   public JsonObject toJson() {
     final JsonObject json = new JsonObject();
     JDBCConnectOptionsConverter.toJson(this, json);
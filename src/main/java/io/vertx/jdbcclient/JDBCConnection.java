@@ -3,7 +3,13 @@ package io.vertx.jdbcclient;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
 
 @VertxGen
 public interface JDBCConnection extends SqlConnection {
@@ -12,6 +18,46 @@ public interface JDBCConnection extends SqlConnection {
 
   Future<Void> setTransactionIsolation(int isolationLevel);
 
+  /**
+   * Check the connection is still valid, see {@link java.sql.Connection#isValid(int)}.
+   *
+   * @param timeoutInSeconds the max amount of seconds to wait for the database, {@code 0} means no timeout
+   * @return a future notified with {@code true} when the connection is valid
+   */
+  Future<Boolean> isValid(int timeoutInSeconds);
+
+  /**
+   * Load a stream of rows into a table, using the fastest {@link io.vertx.jdbcclient.spi.JDBCBulkLoader} supporting
+   * the database, batched inserts otherwise.
+   * <p>
+   * The stream is consumed with back-pressure. With auto-commit, a loader may commit the loaded rows in several steps,
+   * execute the load in a transaction to load all the rows or none.
+   *
+   * @param table the table name, used verbatim in the statements
+   * @param columns the column names, used verbatim in the statements, in the order of the row values
+   * @param rows the rows to load
+   * @return a future notified with the number of loaded rows
+   */
+  Future<Long> bulkLoad(String table, List<String> columns, ReadStream<Tuple> rows);
+
+  /**
+   * Export the result of a query to a stream, e.g. an {@link io.vertx.core.file.AsyncFile}, as CSV or NDJSON.
+   * <p>
+   * The rows are fetched and encoded on a worker, fetching is throttled when the write queue of the destination is
+   * full, so the memory usage does not depend on the size of the result. The destination is not ended. Some drivers,
+   * e.g. PostgreSQL, only fetch the result incrementally within a transaction.
+   * <p>
+   * The export sets the exception handler of the destination, it fails when the destination fails or does not drain
+   * within {@link JDBCExportOptions#getWriteTimeout()}.
+   *
+   * @param sql the query
+   * @param params the parameters of the query
+   * @param destination the stream the encoded rows are written to
+   * @param options the export options
+   * @return a future notified with the number of exported rows once they are written to the destination
+   */
+  Future<Long> export(String sql, Tuple params, WriteStream<Buffer> destination, JDBCExportOptions options);
+
   /**
    * Sets a connection wide query timeout.
    *
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+/**
+ * The format of the rows exported by {@link JDBCConnection#export}.
+ */
+public enum JDBCExportFormat {
+
+  /**
+   * Comma separated values as defined by RFC 4180, a value is quoted when it contains a comma, a double quote or a line
+   * break.
+   */
+  CSV,
+
+  /**
+   * Newline delimited JSON, each row being a JSON object keyed by the column names.
+   */
+  NDJSON
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring an export, see {@link JDBCConnection#export}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class JDBCExportOptions {
+
+  /**
+   * Default export format = CSV
+   */
+  public static final JDBCExportFormat DEFAULT_FORMAT = JDBCExportFormat.CSV;
+
+  /**
+   * Default number of rows fetched at once from the database = 1000
+   */
+  public static final int DEFAULT_FETCH_SIZE = 1000;
+
+  /**
+   * Default size in bytes of the buffers written to the destination = 65536
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Default header setting = true
+   */
+  public static final boolean DEFAULT_HEADER = true;
+
+  /**
+   * Default time in milliseconds the export waits for the destination to drain = 60000
+   */
+  public static final long DEFAULT_WRITE_TIMEOUT = 60_000L;
+
+  private JDBCExportFormat format = DEFAULT_FORMAT;
+  private int fetchSize = DEFAULT_FETCH_SIZE;
+  private int bufferSize = DEFAULT_BUFFER_SIZE;
+  private boolean header = DEFAULT_HEADER;
+  private long writeTimeout = DEFAULT_WRITE_TIMEOUT;
+
+  public JDBCExportOptions() {
+  }
+
+  public JDBCExportOptions(JDBCExportOptions other) {
+    this.format = other.format;
+    this.fetchSize = other.fetchSize;
+    this.bufferSize = other.bufferSize;
+    this.header = other.header;
+    this.writeTimeout = other.writeTimeout;
+  }
+
+  public JDBCExportOptions(JsonObject json) {
+    JDBCExportOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the export format
+   */
+  public JDBCExportFormat getFormat() {
+    return format;
+  }
+
+  /**
+   * Set the export format.
+   *
+   * @param format the format
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCExportOptions setFormat(JDBCExportFormat format) {
+    if (format == null) {
+      throw new IllegalArgumentException("format must not be null");
+    }
+    this.format = format;
+    return this;
+  }
+
+  /**
+   * @return the number of rows fetched at once from the database
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Set the number of rows fetched at once from the database, see {@link java.sql.Statement#setFetchSize(int)}.
+   *
+   * @param fetchSize the fetch size, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCExportOptions setFetchSize(int fetchSize) {
+    if (fetchSize < 1) {
+      throw new IllegalArgumentException("fetchSize must be > 0");
+    }
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of the buffers written to the destination
+   */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * Set the size in bytes of the buffers written to the destination, rows are encoded until a buffer reaches this
+   * size, so a buffer can be larger by up to a row.
+   *
+   * @param bufferSize the buffer size, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCExportOptions setBufferSize(int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be > 0");
+    }
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  /**
+   * @return whether a CSV export starts with a line of column names
+   */
+  public boolean isHeader() {
+    return header;
+  }
+
+  /**
+   * Set whether a CSV export starts with a line of column names, this setting is ignored by the other formats.
+   *
+   * @param header {@code true} to write the header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCExportOptions setHeader(boolean header) {
+    this.header = header;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds the export waits for the destination to drain
+   */
+  public long getWriteTimeout() {
+    return writeTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds the export waits for the destination to accept the next buffer when its write queue
+   * is full, the export fails when the destination does not drain in time, e.g. a disconnected HTTP client.
+   *
+   * @param writeTimeout the timeout, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCExportOptions setWriteTimeout(long writeTimeout) {
+    if (writeTimeout < 1) {
+      throw new IllegalArgumentException("writeTimeout must be > 0");
+    }
+    this.writeTimeout = writeTimeout;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    JDBCExportOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
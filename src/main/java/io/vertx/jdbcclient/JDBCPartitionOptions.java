@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a partitioned query, see {@link JDBCPool#partitionedQuery}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class JDBCPartitionOptions {
+
+  /**
+   * Default maximum number of partitions queried concurrently = 4
+   */
+  public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+  /**
+   * Default number of rows fetched at once from a partition = 256
+   */
+  public static final int DEFAULT_FETCH_SIZE = 256;
+
+  private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+  private int fetchSize = DEFAULT_FETCH_SIZE;
+  private String sortColumn;
+  private boolean sortDescending;
+
+  public JDBCPartitionOptions() {
+  }
+
+  public JDBCPartitionOptions(JDBCPartitionOptions other) {
+    this.maxConcurrency = other.maxConcurrency;
+    this.fetchSize = other.fetchSize;
+    this.sortColumn = other.sortColumn;
+    this.sortDescending = other.sortDescending;
+  }
+
+  public JDBCPartitionOptions(JsonObject json) {
+    JDBCPartitionOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of partitions queried concurrently
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Set the maximum number of partitions queried concurrently, each partition being queried on its own connection.
+   * When the rows are merged on a sort column all the partitions are queried at once, so the number of partitions must
+   * not exceed this value.
+   *
+   * @param maxConcurrency the maximum concurrency, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPartitionOptions setMaxConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be > 0");
+    }
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  /**
+   * @return the number of rows fetched at once from a partition
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Set the number of rows fetched at once from a partition, this bounds the rows buffered per partition.
+   *
+   * @param fetchSize the fetch size, must be greater than zero
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPartitionOptions setFetchSize(int fetchSize) {
+    if (fetchSize < 1) {
+      throw new IllegalArgumentException("fetchSize must be > 0");
+    }
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * @return the column the rows of the partitions are merged on, or {@code null} when rows are emitted unordered
+   */
+  public String getSortColumn() {
+    return sortColumn;
+  }
+
+  /**
+   * Set the column the rows of the partitions are merged on. The query must sort each partition on this column, the
+   * partitions are then merged so the stream emits all the rows in order.
+   *
+   * @param sortColumn the sort column name, {@code null} to emit the rows as they are fetched
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPartitionOptions setSortColumn(String sortColumn) {
+    this.sortColumn = sortColumn;
+    return this;
+  }
+
+  /**
+   * @return whether the partitions are sorted in descending order
+   */
+  public boolean isSortDescending() {
+    return sortDescending;
+  }
+
+  /**
+   * Set whether the partitions are sorted in descending order on the sort column.
+   *
+   * @param sortDescending {@code true} for a descending order
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPartitionOptions setSortDescending(boolean sortDescending) {
+    this.sortDescending = sortDescending;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    JDBCPartitionOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -19,14 +19,22 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.jdbcclient.impl.FailoverConnector;
 import io.vertx.jdbcclient.impl.FakeDriver;
 import io.vertx.jdbcclient.impl.FakeSqlConnectOptions;
+import io.vertx.jdbcclient.impl.PartitionedRowStream;
 import io.vertx.sqlclient.*;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
@@ -80,4 +88,100 @@ public interface JDBCPool extends Pool {
     FakeDriver driver = new FakeDriver(connectionCallable);
     return driver.createPool(vertx, () -> Future.succeededFuture(new FakeSqlConnectOptions(new JDBCConnectOptions())), poolOptions, new NetClientOptions(), null);
   }
+
+  /**
+   * Create a JDBC pool connecting to several database endpoints, e.g. a primary and its standbys.
+   * <p>
+   * Each new connection is opened on the first endpoint, in list order, that accepts it. An endpoint failing to connect,
+   * or exceeding its {@link JDBCConnectOptions#getConnectTimeout() connect timeout}, is skipped for a backoff period
+   * according to its circuit breaker settings, see {@link JDBCConnectOptions#setCircuitBreakerFailureThreshold(int)}.
+   * <p>
+   * The pool level settings (metrics, statement options...) are the ones of the first endpoint.
+   *
+   * @param vertx  the Vert.x instance
+   * @param endpoints the options of each endpoint, by order of preference
+   * @param poolOptions the connection pool options
+   * @return the client
+   */
+  static Pool pool(Vertx vertx, List<JDBCConnectOptions> endpoints, PoolOptions poolOptions) {
+    if (endpoints.isEmpty()) {
+      throw new IllegalArgumentException("At least one endpoint is required");
+    }
+    List<FailoverConnector.Endpoint> list = new ArrayList<>();
+    for (JDBCConnectOptions endpoint : endpoints) {
+      list.add(new FailoverConnector.Endpoint(endpoint, () -> DriverManager.getConnection(endpoint.getJdbcUrl(), endpoint.getUser(), endpoint.getPassword())));
+    }
+    FakeDriver driver = new FakeDriver(list);
+    return driver.createPool(vertx, () -> Future.succeededFuture(new FakeSqlConnectOptions(endpoints.get(0))), poolOptions, new NetClientOptions(), null);
+  }
+
+  /**
+   * Like {@link #pool(Vertx, List, PoolOptions)} with pre-initialized data sources, by order of preference, sharing
+   * the same connect options.
+   *
+   * @param vertx  the Vert.x instance
+   * @param dataSources the pre-initialized data sources
+   * @param connectOptions the options shared by the endpoints
+   * @param poolOptions the connection pool options
+   * @return the client
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static Pool pool(Vertx vertx, List<DataSource> dataSources, JDBCConnectOptions connectOptions, PoolOptions poolOptions) {
+    if (dataSources.isEmpty()) {
+      throw new IllegalArgumentException("At least one data source is required");
+    }
+    List<FailoverConnector.Endpoint> list = new ArrayList<>();
+    for (DataSource dataSource : dataSources) {
+      list.add(new FailoverConnector.Endpoint(connectOptions, dataSource::getConnection));
+    }
+    FakeDriver driver = new FakeDriver(list);
+    return driver.createPool(vertx, () -> Future.succeededFuture(new FakeSqlConnectOptions(connectOptions)), poolOptions, new NetClientOptions(), null);
+  }
+
+  /**
+   * Execute a query once per partition, e.g. per key range, streaming the rows of all the partitions. The partitions
+   * are queried concurrently on their own connection of the {@code pool}, at most
+   * {@link JDBCPartitionOptions#getMaxConcurrency()} at a time.
+   * <p>
+   * The rows are emitted as they are fetched, unless {@link JDBCPartitionOptions#setSortColumn(String)} is set, the
+   * query must then sort the rows of a partition on that column and the partitions are merged so the rows are emitted
+   * in order.
+   *
+   * @param vertx the Vert.x instance
+   * @param pool the pool providing the connections
+   * @param sql the query, executed with the parameters of each partition
+   * @param partitions the parameters of each partition
+   * @param options the options
+   * @return the stream, the partitions are queried once a handler is set
+   */
+  static RowStream<Row> partitionedQuery(Vertx vertx, Pool pool, String sql, List<Tuple> partitions, JDBCPartitionOptions options) {
+    return new PartitionedRowStream(((VertxInternal) vertx).getOrCreateContext(), pool, sql, partitions, options);
+  }
+
+  /**
+   * Load a stream of rows into a table in a single transaction, see {@link JDBCConnection#bulkLoad}.
+   *
+   * @param pool the pool providing the connection
+   * @param table the table name, used verbatim in the statements
+   * @param columns the column names, used verbatim in the statements, in the order of the row values
+   * @param rows the rows to load
+   * @return a future notified with the number of loaded rows
+   */
+  static Future<Long> bulkLoad(Pool pool, String table, List<String> columns, ReadStream<Tuple> rows) {
+    return pool.withTransaction(conn -> ((JDBCConnection) conn).bulkLoad(table, columns, rows));
+  }
+
+  /**
+   * Export the result of a query to a stream in a transaction, see {@link JDBCConnection#export}.
+   *
+   * @param pool the pool providing the connection
+   * @param sql the query
+   * @param params the parameters of the query
+   * @param destination the stream the encoded rows are written to
+   * @param options the export options
+   * @return a future notified with the number of exported rows once they are written to the destination
+   */
+  static Future<Long> export(Pool pool, String sql, Tuple params, WriteStream<Buffer> destination, JDBCExportOptions options) {
+    return pool.withTransaction(conn -> ((JDBCConnection) conn).export(sql, params, destination, options));
+  }
 }
@@ -6,6 +6,9 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.PrepareOptions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Options for preparing JDBC statements.
  * <p>
@@ -20,8 +23,16 @@ public class JDBCPrepareOptions extends PrepareOptions {
    */
   public static final boolean DEFAULT_AUTO_GENERATED_KEYS = true;
 
+  /**
+   * Default value for the result cache TTL = 0, results are not cached
+   */
+  public static final long DEFAULT_CACHE_TTL = 0L;
+
   private boolean autoGeneratedKeys;
   private JsonArray autoGeneratedKeysIndexes;
+  private long cacheTtl = DEFAULT_CACHE_TTL;
+  private List<String> cacheTables;
+  private boolean readOnly;
 
   /**
    * Creates a new instance with default values.
@@ -39,6 +50,9 @@ public class JDBCPrepareOptions extends PrepareOptions {
     super(other);
     this.autoGeneratedKeys = other.autoGeneratedKeys;
     this.autoGeneratedKeysIndexes = other.autoGeneratedKeysIndexes != null ? other.autoGeneratedKeysIndexes.copy() : null;
+    this.cacheTtl = other.cacheTtl;
+    this.cacheTables = other.cacheTables != null ? new ArrayList<>(other.cacheTables) : null;
+    this.readOnly = other.readOnly;
   }
 
   /**
@@ -108,4 +122,87 @@ public class JDBCPrepareOptions extends PrepareOptions {
     this.autoGeneratedKeysIndexes = autoGeneratedKeysIndexes;
     return this;
   }
+
+  /**
+   * Returns the time in milliseconds the result of the query is cached.
+   *
+   * @return the cache TTL, {@code 0} when the result is not cached
+   */
+  public long getCacheTtl() {
+    return cacheTtl;
+  }
+
+  /**
+   * Sets the time in milliseconds the result of the query is cached by the pool.
+   * <p>
+   * Executions of the same SQL with the same parameters are then served from the cache until the TTL expires or a
+   * statement executed through the pool modifies one of the {@link #setCacheTables(List) cache tables}.
+   *
+   * @param cacheTtl the cache TTL, {@code 0} disables caching
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPrepareOptions setCacheTtl(long cacheTtl) {
+    if (cacheTtl < 0) {
+      throw new IllegalArgumentException("cacheTtl must be >= 0");
+    }
+    this.cacheTtl = cacheTtl;
+    return this;
+  }
+
+  /**
+   * Returns the tables the cached result depends on.
+   *
+   * @return the table names, or null if not set
+   */
+  public List<String> getCacheTables() {
+    return cacheTables;
+  }
+
+  /**
+   * Sets the tables the cached result depends on, the result is invalidated when an {@code INSERT}, {@code UPDATE},
+   * {@code DELETE}, {@code MERGE} or {@code TRUNCATE} statement targeting one of them is executed through the pool.
+   * <p>
+   * Names are compared case-insensitively, ignoring quotes and schema.
+   *
+   * @param cacheTables the table names
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPrepareOptions setCacheTables(List<String> cacheTables) {
+    this.cacheTables = cacheTables;
+    return this;
+  }
+
+  /**
+   * Adds a table the cached result depends on.
+   *
+   * @param cacheTable the table name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPrepareOptions addCacheTable(String cacheTable) {
+    if (cacheTables == null) {
+      cacheTables = new ArrayList<>();
+    }
+    cacheTables.add(cacheTable);
+    return this;
+  }
+
+  /**
+   * Returns whether the statement only reads data.
+   *
+   * @return true if the statement only reads data
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Sets whether the statement only reads data, a {@link JDBCReadWritePool} routes such statements to a replica.
+   *
+   * @param readOnly true if the statement only reads data
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCPrepareOptions setReadOnly(boolean readOnly) {
+    this.readOnly = readOnly;
+    return this;
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a {@link JDBCReadWritePool}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class JDBCReadWriteOptions {
+
+  /**
+   * Default interval in milliseconds between two health checks of a replica = 5000
+   */
+  public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 5000;
+
+  /**
+   * Default timeout in seconds of a replica health check = 5
+   */
+  public static final int DEFAULT_HEALTH_CHECK_TIMEOUT = 5;
+
+  private long healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+  private int healthCheckTimeout = DEFAULT_HEALTH_CHECK_TIMEOUT;
+  private String healthCheckQuery;
+
+  public JDBCReadWriteOptions() {
+  }
+
+  public JDBCReadWriteOptions(JDBCReadWriteOptions other) {
+    this.healthCheckInterval = other.healthCheckInterval;
+    this.healthCheckTimeout = other.healthCheckTimeout;
+    this.healthCheckQuery = other.healthCheckQuery;
+  }
+
+  public JDBCReadWriteOptions(JsonObject json) {
+    JDBCReadWriteOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the interval in milliseconds between two health checks of a replica
+   */
+  public long getHealthCheckInterval() {
+    return healthCheckInterval;
+  }
+
+  /**
+   * Set the interval in milliseconds between two health checks of a replica.
+   *
+   * @param healthCheckInterval the interval, {@code 0} disables health checks
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCReadWriteOptions setHealthCheckInterval(long healthCheckInterval) {
+    if (healthCheckInterval < 0) {
+      throw new IllegalArgumentException("healthCheckInterval must be >= 0");
+    }
+    this.healthCheckInterval = healthCheckInterval;
+    return this;
+  }
+
+  /**
+   * @return the timeout in seconds of a replica health check
+   */
+  public int getHealthCheckTimeout() {
+    return healthCheckTimeout;
+  }
+
+  /**
+   * Set the timeout in seconds of a replica health check, a replica whose check does not complete in time is marked
+   * unhealthy. {@code 0} means no timeout.
+   *
+   * @param healthCheckTimeout the timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCReadWriteOptions setHealthCheckTimeout(int healthCheckTimeout) {
+    if (healthCheckTimeout < 0) {
+      throw new IllegalArgumentException("healthCheckTimeout must be >= 0");
+    }
+    this.healthCheckTimeout = healthCheckTimeout;
+    return this;
+  }
+
+  /**
+   * @return the query executed to check a replica
+   */
+  public String getHealthCheckQuery() {
+    return healthCheckQuery;
+  }
+
+  /**
+   * Set the query executed to check a replica, when not set the replica is checked with
+   * {@link java.sql.Connection#isValid(int)}.
+   *
+   * @param healthCheckQuery the query
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JDBCReadWriteOptions setHealthCheckQuery(String healthCheckQuery) {
+    this.healthCheckQuery = healthCheckQuery;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    JDBCReadWriteOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.jdbcclient.impl.JDBCReadWritePoolImpl;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A pool splitting the read-only work between replicas, the other statements being executed by the primary.
+ * <p>
+ * Read-only work is given to the healthy replica with the least outstanding requests. Replicas are checked
+ * periodically, a replica failing its health check is not used until it passes it again. When no replica is healthy,
+ * the read-only work is executed by the primary.
+ */
+@VertxGen
+public interface JDBCReadWritePool {
+
+  /**
+   * Create a pool routing to the given pools, which are then owned by the created pool.
+   *
+   * @param vertx the Vert.x instance
+   * @param primary the pool of the primary database
+   * @param replicas the pools of the replicas
+   * @param options the routing options
+   * @return the pool
+   */
+  static JDBCReadWritePool create(Vertx vertx, Pool primary, List<Pool> replicas, JDBCReadWriteOptions options) {
+    return new JDBCReadWritePoolImpl(vertx, primary, replicas, options);
+  }
+
+  /**
+   * @return the pool of the primary database, for the statements that modify data and transactions
+   */
+  Pool primary();
+
+  /**
+   * Execute read-only work on a replica, the replica is considered busy until the returned future completes.
+   *
+   * @param function the work, given the pool of the chosen replica
+   * @return the result of the work
+   */
+  <T> Future<T> withReplica(Function<Pool, Future<T>> function);
+
+  /**
+   * Execute a prepared statement, on a replica when {@link JDBCPrepareOptions#isReadOnly()} is set and on the primary
+   * otherwise.
+   *
+   * @param sql the statement
+   * @param params the parameters
+   * @param options the options of the statement
+   * @return the result of the statement
+   */
+  Future<RowSet<Row>> execute(String sql, Tuple params, JDBCPrepareOptions options);
+
+  /**
+   * Stop the health checks and close all the pools.
+   *
+   * @return a future notified when the pools are closed
+   */
+  Future<Void> close();
+}
@@ -1,6 +1,9 @@
 package io.vertx.jdbcclient;
 
 import io.vertx.jdbcclient.impl.ConnectionImpl;
+import io.vertx.jdbcclient.impl.OffHeapRow;
+import io.vertx.jdbcclient.impl.OffHeapRowBuffer;
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.internal.SqlConnectionInternal;
 
@@ -16,6 +19,26 @@ public class JDBCUtils {
     return implOf(conn).getJDBCConnection();
   }
 
+  /**
+   * Release the off-heap memory of rows read with {@link SqlOptions#setOffHeapRows(boolean)}, the rows cannot be read
+   * afterwards. This has no effect on rows stored on-heap.
+   *
+   * @param rows the rows, e.g. a {@code RowSet}
+   */
+  public static void release(Iterable<Row> rows) {
+    OffHeapRowBuffer last = null;
+    for (Row row : rows) {
+      if (!(row instanceof OffHeapRow)) {
+        return;
+      }
+      OffHeapRowBuffer buffer = ((OffHeapRow) row).buffer();
+      if (buffer != last) {
+        buffer.release();
+        last = buffer;
+      }
+    }
+  }
+
   private static ConnectionImpl implOf(SqlConnection conn) {
     io.vertx.sqlclient.spi.connection.Connection internal = ((SqlConnectionInternal) conn).unwrap();
     if (!(internal instanceof ConnectionImpl)) {
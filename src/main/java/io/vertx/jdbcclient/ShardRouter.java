@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Compute the shard of a {@link ShardedJDBCPool} a statement is executed on from its parameters.
+ */
+@VertxGen
+@FunctionalInterface
+public interface ShardRouter {
+
+  /**
+   * Route on the value of a parameter: integral numbers are routed to the shard {@code value modulo shards}, other
+   * values are routed by hash code.
+   *
+   * @param index the index of the parameter holding the shard key
+   * @return the router
+   */
+  static ShardRouter byParameter(int index) {
+    if (index < 0) {
+      throw new IllegalArgumentException("Invalid parameter index " + index);
+    }
+    return (params, shards) -> {
+      Object key = params.getValue(index);
+      if (key == null) {
+        throw new IllegalArgumentException("The shard key parameter " + index + " is null");
+      }
+      if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+        return (int) Math.floorMod(((Number) key).longValue(), (long) shards);
+      }
+      int h = key.hashCode();
+      // spread the high bits, as done by HashMap
+      return Math.floorMod(h ^ (h >>> 16), shards);
+    };
+  }
+
+  /**
+   * @param params the parameters of the statement
+   * @param shards the number of shards
+   * @return the index of the shard, between {@code 0} and {@code shards - 1}
+   */
+  int shard(Tuple params, int shards);
+}
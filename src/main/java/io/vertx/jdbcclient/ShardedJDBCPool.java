@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.jdbcclient.impl.ShardedJDBCPoolImpl;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A pool spreading the data over several databases, the shards.
+ * <p>
+ * Statements are routed to a single shard by a {@link ShardRouter} computing the shard from the statement parameters,
+ * or executed on all the shards in parallel, their results being merged.
+ */
+@VertxGen
+public interface ShardedJDBCPool {
+
+  /**
+   * Create a sharded pool over the given pools, which are then owned by the created pool. The index of a pool in the
+   * list is its shard index.
+   *
+   * @param vertx the Vert.x instance, the merged results complete on the context of the caller
+   * @param shards the pools of the shards
+   * @param router the router computing the shard of a statement
+   * @return the pool
+   */
+  static ShardedJDBCPool create(Vertx vertx, List<Pool> shards, ShardRouter router) {
+    return new ShardedJDBCPoolImpl(vertx, shards, router);
+  }
+
+  /**
+   * Create a sharded pool with a {@link JDBCPool} per shard. When the options of a shard do not define a
+   * {@link JDBCConnectOptions#setMetricsName(String) metrics name}, the shard metrics are reported under
+   * {@code shard-<index>}.
+   *
+   * @param vertx the Vert.x instance
+   * @param shards the connect options of the shards
+   * @param poolOptions the options of each shard pool
+   * @param router the router computing the shard of a statement
+   * @return the pool
+   */
+  static ShardedJDBCPool pool(Vertx vertx, List<JDBCConnectOptions> shards, PoolOptions poolOptions, ShardRouter router) {
+    List<Pool> pools = new ArrayList<>(shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      JDBCConnectOptions options = shards.get(i);
+      if (options.getMetricsName() == null || options.getMetricsName().isEmpty()) {
+        options = new JDBCConnectOptions(options).setMetricsName("shard-" + i);
+      }
+      pools.add(JDBCPool.pool(vertx, options, poolOptions));
+    }
+    return create(vertx, pools, router);
+  }
+
+  /**
+   * @return the number of shards
+   */
+  int size();
+
+  /**
+   * @param index the shard index
+   * @return the pool of the shard
+   */
+  Pool shard(int index);
+
+  /**
+   * @param params the parameters holding the shard key
+   * @return the pool of the shard the router computes from {@code params}
+   */
+  Pool shardFor(Tuple params);
+
+  /**
+   * Execute work, e.g. a transaction, on the shard the router computes from {@code key}.
+   *
+   * @param key the parameters holding the shard key
+   * @param function the work, given the pool of the shard
+   * @return the result of the work
+   */
+  <T> Future<T> withShard(Tuple key, Function<Pool, Future<T>> function);
+
+  /**
+   * Execute a prepared statement on the shard the router computes from its parameters.
+   *
+   * @param sql the statement
+   * @param params the parameters
+   * @return the result of the statement
+   */
+  Future<RowSet<Row>> execute(String sql, Tuple params);
+
+  /**
+   * Execute a prepared statement on all the shards in parallel. The merged result holds the rows of each shard, by
+   * shard order, and the sum of the updated row counts.
+   * <p>
+   * The returned future fails as soon as the statement fails on a shard. It completes on the context of the caller.
+   *
+   * @param sql the statement
+   * @param params the parameters
+   * @return the merged result
+   */
+  Future<RowSet<Row>> executeAll(String sql, Tuple params);
+
+  /**
+   * Close the pools of all the shards.
+   *
+   * @return a future notified when the pools are closed
+   */
+  Future<Void> close();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.jdbcclient.impl.SqlInListImpl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A parameter expanded into a list of placeholders, e.g. for {@code WHERE id IN (?)}.
+ * <p>
+ * The placeholder is replaced by a number of placeholders rounded up to the next power of two (1, 2, 4, ...), but never
+ * beyond {@link SqlOptions#setInListPaddingLimit(int)} (1000 by default), the extra placeholders are bound to the last
+ * value of the list, or {@code NULL} when the list is empty. Lists of similar sizes therefore produce the same SQL
+ * text, which the driver and the database can reuse from their statement caches. A list larger than the limit is not
+ * padded. Prefer an array parameter when the database supports it.
+ * <p>
+ * Placeholders inside string literals and comments are not expanded, however a quote escaped with a backslash and
+ * PostgreSQL dollar quoted literals are not recognized, such statements should not contain a {@code ?} there.
+ */
+@VertxGen
+public interface SqlInList {
+
+  /**
+   * Factory for a list parameter.
+   * @param values the values
+   * @return new parameter
+   */
+  static SqlInList of(List<Object> values) {
+    return new SqlInListImpl(values);
+  }
+
+  /**
+   * Factory for a list parameter.
+   * @param values the values
+   * @return new parameter
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static SqlInList of(Collection<?> values) {
+    return new SqlInListImpl(values);
+  }
+
+  /**
+   * Factory for a list parameter.
+   * @param values the values
+   * @return new parameter
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static SqlInList of(Object... values) {
+    return new SqlInListImpl(Arrays.asList(values));
+  }
+
+  /**
+   * @return the values of the list
+   */
+  List<Object> values();
+}
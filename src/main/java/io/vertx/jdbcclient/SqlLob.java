@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A handle on a {@code BLOB} or {@code CLOB} column value that was not read eagerly, see
+ * {@link SqlOptions#setLobInlineThreshold(long)}.
+ * <p>
+ * The content is read lazily in chunks on a worker thread, using the connection the value was read from. The handle
+ * is therefore only usable while that connection is held, e.g. within {@link io.vertx.sqlclient.Pool#withConnection}
+ * or a transaction.
+ */
+@VertxGen
+public interface SqlLob {
+
+  /**
+   * @return the length of the value, in bytes for a {@code BLOB} and in characters for a {@code CLOB}
+   */
+  long length();
+
+  /**
+   * @return {@code true} for a {@code CLOB}/{@code NCLOB} value, whose stream emits UTF-8 encoded buffers
+   */
+  boolean isCharacter();
+
+  /**
+   * Create a new back-pressured stream over the content of the value, starting at the first byte/character.
+   *
+   * @return the stream
+   */
+  ReadStream<Buffer> stream();
+
+  /**
+   * Release the resources held by the value, the handle cannot be used afterwards.
+   *
+   * @return a future notified when the value has been freed
+   */
+  Future<Void> free();
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.jdbcclient.impl.SqlLobParamImpl;
+
+/**
+ * A parameter whose content is streamed to the database instead of being held in memory.
+ * <p>
+ * The stream is bound with {@code setBinaryStream} or {@code setCharacterStream} and is consumed by the worker
+ * executing the statement, through a bounded pipe that pauses the stream when the database does not keep up.
+ * The parameter should be created on the context of the stream (e.g. in the request handler of an HTTP upload), it
+ * can be used for a single execution only.
+ */
+@VertxGen
+public interface SqlLobParam {
+
+  /**
+   * Factory for a binary parameter of unknown length.
+   * @param stream the content
+   * @return new parameter
+   */
+  static SqlLobParam BLOB(ReadStream<Buffer> stream) {
+    return new SqlLobParamImpl(stream, -1L, false);
+  }
+
+  /**
+   * Factory for a binary parameter.
+   * @param stream the content
+   * @param length the length of the content in bytes, some drivers require it
+   * @return new parameter
+   */
+  static SqlLobParam BLOB(ReadStream<Buffer> stream, long length) {
+    return new SqlLobParamImpl(stream, length, false);
+  }
+
+  /**
+   * Factory for a character parameter of unknown length, the stream content is decoded as UTF-8.
+   * @param stream the content
+   * @return new parameter
+   */
+  static SqlLobParam CLOB(ReadStream<Buffer> stream) {
+    return new SqlLobParamImpl(stream, -1L, true);
+  }
+
+  /**
+   * Factory for a character parameter, the stream content is decoded as UTF-8.
+   * @param stream the content
+   * @param length the length of the content in characters, some drivers require it
+   * @return new parameter
+   */
+  static SqlLobParam CLOB(ReadStream<Buffer> stream, long length) {
+    return new SqlLobParamImpl(stream, length, true);
+  }
+
+  /**
+   * @return {@code true} when the content is bound as a character stream
+   */
+  boolean isCharacter();
+
+  /**
+   * @return the length of the content or {@code -1} when unknown
+   */
+  long length();
+}
@@ -40,6 +40,11 @@ public class SqlOptions {
   // resultset
   private FetchDirection fetchDirection;
   private int fetchSize;
+  private long lobInlineThreshold = -1;
+  private boolean offHeapRows;
+  private boolean lazyDecoding;
+  // statement rewriting
+  private int inListPaddingLimit = 1000;
 
   /**
    * Default constructor
@@ -65,6 +70,10 @@ public class SqlOptions {
     this.fetchDirection = other.getFetchDirection();
     this.fetchSize = other.getFetchSize();
     this.maxRows = other.getMaxRows();
+    this.lobInlineThreshold = other.getLobInlineThreshold();
+    this.offHeapRows = other.isOffHeapRows();
+    this.lazyDecoding = other.isLazyDecoding();
+    this.inListPaddingLimit = other.getInListPaddingLimit();
   }
 
   public boolean isReadOnly() {
@@ -174,4 +183,85 @@ public class SqlOptions {
     this.maxRows = maxRows;
     return this;
   }
+
+  public long getLobInlineThreshold() {
+    return lobInlineThreshold;
+  }
+
+  /**
+   * Set the maximum length of a {@code BLOB}/{@code CLOB} value that is read eagerly into the row. Larger values are
+   * returned as a {@link SqlLob} handle that can be streamed while the connection is held.
+   * <p>
+   * A negative value (the default) disables streaming: every LOB is read eagerly.
+   *
+   * @param lobInlineThreshold the threshold, in bytes for {@code BLOB} and characters for {@code CLOB}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlOptions setLobInlineThreshold(long lobInlineThreshold) {
+    this.lobInlineThreshold = lobInlineThreshold;
+    return this;
+  }
+
+  public boolean isOffHeapRows() {
+    return offHeapRows;
+  }
+
+  /**
+   * Set whether the rows of a result are stored off-heap, in a compact binary layout, instead of as Java objects. A row
+   * is then a lightweight view decoding its values on access, which reduces the garbage collection pressure of large
+   * materialized results.
+   * <p>
+   * The off-heap memory is released when the rows are no longer reachable, or explicitly with
+   * {@link JDBCUtils#release(Iterable)}. Results read off-heap are not cached, and a result is limited to 2GB.
+   *
+   * @param offHeapRows {@code true} to store the rows off-heap
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlOptions setOffHeapRows(boolean offHeapRows) {
+    this.offHeapRows = offHeapRows;
+    return this;
+  }
+
+  public boolean isLazyDecoding() {
+    return lazyDecoding;
+  }
+
+  /**
+   * Set whether the values of a row are decoded when they are accessed rather than when the row is read. The row keeps
+   * the value returned by {@link java.sql.ResultSet#getObject(int)} and applies the decoder conversion on first access,
+   * which saves the conversion of the columns that are never read, e.g. with wide {@code SELECT *} queries.
+   * <p>
+   * Only the columns whose conversion does not need the result set are deferred: numeric, boolean, character, binary
+   * and date/time without time zone columns, the other columns are decoded eagerly. This setting has no effect on rows
+   * stored off-heap.
+   *
+   * @param lazyDecoding {@code true} to decode values on access
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlOptions setLazyDecoding(boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+    return this;
+  }
+
+  public int getInListPaddingLimit() {
+    return inListPaddingLimit;
+  }
+
+  /**
+   * Set the maximum number of placeholders a {@link SqlInList} parameter is padded to. A list is padded to the next
+   * power of two so that lists of similar sizes share the same statement, but never beyond this limit, and a larger
+   * list expands to exactly as many placeholders as it has values.
+   * <p>
+   * The default value is {@code 1000}, the maximum number of values of an Oracle {@code IN} list.
+   *
+   * @param inListPaddingLimit the maximum number of placeholders of a padded list
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlOptions setInListPaddingLimit(int inListPaddingLimit) {
+    if (inListPaddingLimit < 1) {
+      throw new IllegalArgumentException("inListPaddingLimit must be > 0");
+    }
+    this.inListPaddingLimit = inListPaddingLimit;
+    return this;
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCAction;
+import io.vertx.jdbcclient.spi.JDBCBatchInsertLoader;
+import io.vertx.jdbcclient.spi.JDBCBulkLoader;
+import io.vertx.jdbcclient.spi.JDBCEncoder;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.ServiceLoader;
+
+public class BulkLoad extends CommandBase<Long> implements JDBCAction<Long> {
+
+  static final int HIGH_WATER_MARK = 512;
+
+  private static final List<JDBCBulkLoader> LOADERS = loadLoaders();
+
+  private static List<JDBCBulkLoader> loadLoaders() {
+    List<JDBCBulkLoader> loaders = new ArrayList<>();
+    ServiceLoader.load(JDBCBulkLoader.class).forEach(loaders::add);
+    return loaders;
+  }
+
+  final JDBCEncoder encoder;
+  final String table;
+  final List<String> columns;
+  final ReadStreamBridge<Tuple> rows;
+
+  public BulkLoad(JDBCEncoder encoder, String table, List<String> columns, ReadStreamBridge<Tuple> rows) {
+    this.encoder = encoder;
+    this.table = table;
+    this.columns = columns;
+    this.rows = rows;
+  }
+
+  @Override
+  public Long execute(Connection conn) throws SQLException {
+    try {
+      return loader(conn).load(conn, encoder, table, columns, new RowIterator());
+    } catch (UncheckedIOException e) {
+      throw new SQLException("Failed to read the rows to load", e.getCause());
+    } finally {
+      rows.close();
+    }
+  }
+
+  private static JDBCBulkLoader loader(Connection conn) throws SQLException {
+    for (JDBCBulkLoader loader : LOADERS) {
+      if (loader.accepts(conn)) {
+        return loader;
+      }
+    }
+    return new JDBCBatchInsertLoader();
+  }
+
+  private class RowIterator implements Iterator<Tuple> {
+
+    private Tuple next;
+    private boolean ended;
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !ended) {
+        try {
+          next = rows.next();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        ended = next == null;
+      }
+      return next != null;
+    }
+
+    @Override
+    public Tuple next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Tuple row = next;
+      next = null;
+      return row;
+    }
+  }
+}
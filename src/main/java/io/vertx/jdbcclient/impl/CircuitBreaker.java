@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+/**
+ * Tracks the connect failures of an endpoint.
+ * <p>
+ * The breaker opens after {@code failureThreshold} consecutive failures, the endpoint is then skipped during the
+ * backoff. Once the backoff elapsed a single attempt is allowed: a success closes the breaker, a failure opens it again
+ * with a doubled backoff.
+ */
+public class CircuitBreaker {
+
+  private final int failureThreshold;
+  private final long initialBackoff;
+  private final long maxBackoff;
+  private int failures;
+  private long backoff;
+  private long openUntil;
+  private boolean trial;
+
+  public CircuitBreaker(int failureThreshold, long initialBackoff, long maxBackoff) {
+    this.failureThreshold = failureThreshold;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = Math.max(initialBackoff, maxBackoff);
+  }
+
+  /**
+   * @param now the current time in milliseconds
+   * @return whether a connection attempt is allowed
+   */
+  public synchronized boolean tryAcquire(long now) {
+    if (failures < failureThreshold) {
+      return true;
+    }
+    if (trial || now < openUntil) {
+      return false;
+    }
+    trial = true;
+    return true;
+  }
+
+  public synchronized void success() {
+    failures = 0;
+    backoff = 0;
+    trial = false;
+  }
+
+  public synchronized void failure(long now) {
+    failures++;
+    trial = false;
+    if (failures >= failureThreshold) {
+      backoff = backoff == 0 ? initialBackoff : Math.min(maxBackoff, backoff * 2);
+      openUntil = now + backoff;
+    }
+  }
+}
@@ -22,8 +22,13 @@ import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.tracing.TracingPolicy;
+import io.vertx.jdbcclient.JDBCPrepareOptions;
+import io.vertx.jdbcclient.SqlLobParam;
 import io.vertx.jdbcclient.SqlOptions;
+import io.vertx.jdbcclient.SqlOutParam;
 import io.vertx.jdbcclient.impl.actions.*;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.internal.PreparedStatement;
 import io.vertx.sqlclient.internal.QueryResultHandler;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
@@ -32,6 +37,13 @@ import io.vertx.sqlclient.spi.connection.ConnectionContext;
 import io.vertx.sqlclient.spi.protocol.*;
 
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
 
 public class ConnectionImpl implements Connection {
 
@@ -43,11 +55,25 @@ public class ConnectionImpl implements Connection {
   final String database;
   final SocketAddress server;
   final SqlOptions sqlOptionsBackup;
+  final int pipeliningLimit;
+  final ResultCache resultCache;
+  // copied on write, the actions keep the options of the time they were scheduled
   SqlOptions sqlOptions;
-//  final TaskQueue statementsQueue = new TaskQueue();
-
+  // incremented each time the connection is acquired, values bound to a lease (LOBs) check it
+  private volatile long lease;
+  // actions waiting to be executed by the drain task when pipelining is enabled
+  private final ArrayDeque<PendingAction<?>> pending = new ArrayDeque<>();
+  private boolean draining;
+  // tables modified since the last transaction end, cached results are invalidated again when it ends
+  private final Set<String> modifiedTables = new HashSet<>();
+  // the auto-commit mode of the connection, results read with auto-commit off may not be committed
+  private volatile boolean autoCommit = true;
 
   public ConnectionImpl(JDBCStatementHelper helper, ContextInternal context, SqlOptions sqlOptions, java.sql.Connection conn, ClientMetrics<?, ?, ?> metrics, String user, String database, SocketAddress server) {
+    this(helper, context, sqlOptions, conn, metrics, user, database, server, 1, null);
+  }
+
+  public ConnectionImpl(JDBCStatementHelper helper, ContextInternal context, SqlOptions sqlOptions, java.sql.Connection conn, ClientMetrics<?, ?, ?> metrics, String user, String database, SocketAddress server, int pipeliningLimit, ResultCache resultCache) {
     this.conn = conn;
     this.helper = helper;
     this.context = context;
@@ -55,22 +81,28 @@ public class ConnectionImpl implements Connection {
     this.database = database;
     this.server = server;
     this.metrics = metrics;
+    this.pipeliningLimit = pipeliningLimit;
+    this.resultCache = resultCache;
     this.sqlOptionsBackup = sqlOptions;
     this.sqlOptions = null;
   }
 
   Future<Void> beforeUsage() {
+    lease++;
     sqlOptions = new SqlOptions(sqlOptionsBackup);
     PromiseInternal<Void> promise = context.owner().promise();
     context.<Void>executeBlocking(() -> {
       conn.beginRequest();
+      autoCommit = conn.getAutoCommit();
       return null;
     }, false).onComplete(promise);
     return promise.future();
   }
 
   Future<Void> afterUsage() {
+    lease++;
     sqlOptions = null;
+    invalidateModifiedTables();
     PromiseInternal<Void> promise = context.owner().promise();
     context.<Void>executeBlocking(() -> {
       conn.endRequest();
@@ -79,10 +111,25 @@ public class ConnectionImpl implements Connection {
     return promise.future();
   }
 
+  long lease() {
+    return lease;
+  }
+
+  /**
+   * Set the query timeout of the next statements, the statements already scheduled keep theirs.
+   */
+  void setQueryTimeout(int timeoutInSeconds) {
+    sqlOptions = new SqlOptions(sqlOptions).setQueryTimeout(timeoutInSeconds);
+  }
+
   public java.sql.Connection getJDBCConnection() {
     return conn;
   }
 
+  public ContextInternal getContext() {
+    return context;
+  }
+
   @Override
   public TracingPolicy tracingPolicy() {
     return TracingPolicy.PROPAGATE;
@@ -105,7 +152,7 @@ public class ConnectionImpl implements Connection {
 
   @Override
   public int pipeliningLimit() {
-    return 1;
+    return pipeliningLimit;
   }
 
   @Override
@@ -174,34 +221,193 @@ public class ConnectionImpl implements Connection {
         new JDBCPreparedBatch<>(helper, sqlOptions, command.options(), command, command.collector(), command.paramsList()) :
         new JDBCPreparedQuery<>(helper, sqlOptions, command.options(), command, command.collector(), command.params());
 
-    return handle(action, command.resultHandler());
+    if (resultCache != null && !command.isBatch() && command.options() instanceof JDBCPrepareOptions) {
+      JDBCPrepareOptions options = (JDBCPrepareOptions) command.options();
+      if (options.getCacheTtl() > 0 && isCacheable(command.params()) && !isTransactional()) {
+        return handleCached(command, action, options);
+      }
+    }
+    return handle(action, command.resultHandler(), command.sql());
   }
 
   private <R> Future<Boolean> handle(SimpleQueryCommand<R> command) {
     JDBCQueryAction<?, R> action = new JDBCSimpleQueryAction<>(helper, sqlOptions, command.sql(), command.collector());
-    return handle(action, command.resultHandler());
+    return handle(action, command.resultHandler(), command.sql());
   }
 
   private <R> Future<R> handle(TxCommand<R> command) {
     JDBCTxOp<R> action = new JDBCTxOp<>(helper, command, sqlOptions);
-    return schedule(action);
+    Future<R> fut = schedule(conn -> {
+      try {
+        return action.execute(conn);
+      } finally {
+        autoCommit = conn.getAutoCommit();
+      }
+    });
+    if (resultCache != null && command.kind() != TxCommand.Kind.BEGIN) {
+      // results cached by other connections while the transaction was running may reflect the state before it ended
+      fut = fut.andThen(ar -> invalidateModifiedTables());
+    }
+    return fut;
   }
 
-  private <R> Future<Boolean> handle(JDBCQueryAction<?, R> action, QueryResultHandler<R> handler) {
+  private void invalidateModifiedTables() {
+    for (String table : modifiedTables) {
+      resultCache.invalidateTable(table);
+    }
+    modifiedTables.clear();
+  }
+
+  /**
+   * @return whether the statements of the connection may read uncommitted data, their results are then neither read
+   *         from nor stored in the pool wide cache
+   */
+  private boolean isTransactional() {
+    return !autoCommit || !modifiedTables.isEmpty();
+  }
+
+  private <R> Future<Boolean> handle(JDBCQueryAction<?, R> action, QueryResultHandler<R> handler, String sql) {
+    action.setConnection(this);
     return schedule(action)
       .map(response -> {
+        if (resultCache != null) {
+          String table = resultCache.invalidate(sql, !autoCommit);
+          if (table != null && !autoCommit) {
+            modifiedTables.add(table);
+          }
+        }
         response.handle(handler);
         return false;
       });
   }
 
+  private <R> Future<Boolean> handleCached(ExtendedQueryCommand<R> command, JDBCQueryAction<?, R> action, JDBCPrepareOptions options) {
+    ResultCache.Key key = new ResultCache.Key(command.sql(), command.params());
+    ResultCache.Entry entry = resultCache.get(key, System.currentTimeMillis());
+    if (entry != null) {
+      replay(entry, command.collector(), command.resultHandler());
+      return Future.succeededFuture(false);
+    }
+    long stamp = resultCache.stamp();
+    action.setConnection(this);
+    action.captureRows();
+    return schedule(action)
+      .map(response -> {
+        List<Row> rows = action.capturedRows();
+        if (rows != null) {
+          resultCache.put(key, stamp, response.update(), action.capturedDesc(), rows, options.getCacheTables(), System.currentTimeMillis() + options.getCacheTtl());
+        }
+        response.handle(command.resultHandler());
+        return false;
+      });
+  }
+
+  private static <C, R> void replay(ResultCache.Entry entry, Collector<Row, C, R> collector, QueryResultHandler<R> handler) {
+    BiConsumer<C, Row> accumulator = collector.accumulator();
+    C container = collector.supplier().get();
+    for (Row row : entry.rows()) {
+      accumulator.accept(container, row);
+    }
+    handler.handleResult(entry.update(), entry.rows().size(), entry.desc(), collector.finisher().apply(container), null);
+  }
+
+  private static boolean isCacheable(Tuple params) {
+    for (int i = 0; i < params.size(); i++) {
+      Object value = params.getValue(i);
+      if (value instanceof SqlOutParam || value instanceof SqlLobParam) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public <T> Future<T> schedule(JDBCAction<T> action) {
-    return context.executeBlocking(() -> {
-      // apply connection options
-      applyConnectionOptions(conn, sqlOptions);
-      // execute
-      return action.execute(conn);
-    }/*, statementsQueue*/);
+    SqlOptions options = sqlOptions;
+    if (pipeliningLimit <= 1) {
+      return context.executeBlocking(() -> {
+        // apply connection options
+        applyConnectionOptions(conn, options);
+        // execute
+        return action.execute(conn);
+      });
+    }
+    PendingAction<T> p = new PendingAction<>(action, options, context.promise());
+    boolean start;
+    synchronized (pending) {
+      pending.add(p);
+      start = !draining;
+      draining = true;
+    }
+    if (start) {
+      context.<Void>executeBlocking(this::drain).onFailure(this::failPending);
+    }
+    return p.promise.future();
+  }
+
+  /**
+   * Execute the queued actions sequentially on the current worker thread until the queue is empty, the result of each
+   * action is delivered on the context as soon as it has been executed.
+   */
+  private Void drain() {
+    while (true) {
+      PendingAction<?> next;
+      synchronized (pending) {
+        next = pending.poll();
+        if (next == null) {
+          draining = false;
+          break;
+        }
+      }
+      next.execute(conn);
+      context.runOnContext(v -> next.complete());
+    }
+    return null;
+  }
+
+  private void failPending(Throwable cause) {
+    List<PendingAction<?>> failed;
+    synchronized (pending) {
+      failed = new ArrayList<>(pending);
+      pending.clear();
+      draining = false;
+    }
+    for (PendingAction<?> p : failed) {
+      p.promise.fail(cause);
+    }
+  }
+
+  private static class PendingAction<T> {
+
+    final JDBCAction<T> action;
+    final SqlOptions options;
+    final PromiseInternal<T> promise;
+    T result;
+    Throwable failure;
+
+    PendingAction(JDBCAction<T> action, SqlOptions options, PromiseInternal<T> promise) {
+      this.action = action;
+      this.options = options;
+      this.promise = promise;
+    }
+
+    void execute(java.sql.Connection conn) {
+      try {
+        // apply connection options
+        applyConnectionOptions(conn, options);
+        // execute
+        result = action.execute(conn);
+      } catch (Throwable t) {
+        failure = t;
+      }
+    }
+
+    void complete() {
+      if (failure != null) {
+        promise.fail(failure);
+      } else {
+        promise.complete(result);
+      }
+    }
   }
 
   public static void applyConnectionOptions(java.sql.Connection conn, SqlOptions sqlOptions) throws SQLException {
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.jdbcclient.JDBCExportFormat;
+import io.vertx.jdbcclient.JDBCExportOptions;
+import io.vertx.jdbcclient.impl.actions.CachedParameterMetaData;
+import io.vertx.jdbcclient.impl.actions.JDBCAction;
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.jdbcclient.impl.actions.JDBCStatementHelper;
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Stream the result of a query to a {@link WriteStreamBridge}, rows are encoded into buffers of about
+ * {@code bufferSize} bytes.
+ */
+public class Export extends CommandBase<Long> implements JDBCAction<Long> {
+
+  final JDBCStatementHelper helper;
+  final String sql;
+  final Tuple params;
+  final JDBCExportOptions options;
+  final WriteStreamBridge destination;
+
+  public Export(JDBCStatementHelper helper, String sql, Tuple params, JDBCExportOptions options, WriteStreamBridge destination) {
+    this.helper = helper;
+    this.sql = sql;
+    this.params = params;
+    this.options = options;
+    this.destination = destination;
+  }
+
+  @Override
+  public Long execute(Connection conn) throws SQLException {
+    // the arrays bound by the parameters
+    List<java.sql.Array> arrays = new ArrayList<>();
+    try (PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      ps.setFetchSize(options.getFetchSize());
+      if (params != null && params.size() > 0) {
+        JDBCColumnDescriptorProvider provider = JDBCStatementHelper.memoize(
+          JDBCColumnDescriptorProvider.fromParameterMetaData(new CachedParameterMetaData(ps)));
+        for (int idx = 1; idx <= params.size(); idx++) {
+          // bound like the parameters of a statement
+          java.sql.Array array = JDBCStatementHelper.bind(ps, idx, conn, provider, helper.getEncoder().encode(params, idx, provider));
+          if (array != null) {
+            arrays.add(array);
+          }
+        }
+      }
+      try (ResultSet rs = ps.executeQuery()) {
+        int cols = rs.getMetaData().getColumnCount();
+        JDBCRowDesc desc = new JDBCRowDesc(helper.getInterner().provider(rs.getMetaData()), cols);
+        JDBCColumnDescriptorProvider provider = desc.columnProvider();
+        List<String> names = desc.columnNames();
+        boolean csv = options.getFormat() == JDBCExportFormat.CSV;
+        int bufferSize = options.getBufferSize();
+        StringBuilder sb = new StringBuilder(bufferSize + 256);
+        if (csv && options.isHeader()) {
+          for (int i = 0; i < cols; i++) {
+            if (i > 0) {
+              sb.append(',');
+            }
+            appendCsv(sb, names.get(i));
+          }
+          sb.append("\r\n");
+        }
+        long count = 0;
+        while (rs.next()) {
+          count++;
+          if (csv) {
+            for (int i = 1; i <= cols; i++) {
+              if (i > 1) {
+                sb.append(',');
+              }
+              Object value = helper.getDecoder().parse(rs, i, provider);
+              if (value != null) {
+                appendCsv(sb, format(value));
+              }
+            }
+            sb.append("\r\n");
+          } else {
+            sb.append('{');
+            for (int i = 1; i <= cols; i++) {
+              if (i > 1) {
+                sb.append(',');
+              }
+              appendJsonString(sb, names.get(i - 1));
+              sb.append(':');
+              appendJson(sb, helper.getDecoder().parse(rs, i, provider));
+            }
+            sb.append("}\n");
+          }
+          if (sb.length() >= bufferSize) {
+            destination.write(Buffer.buffer(sb.toString()));
+            sb.setLength(0);
+          }
+        }
+        if (sb.length() > 0) {
+          destination.write(Buffer.buffer(sb.toString()));
+        }
+        destination.awaitWritable();
+        return count;
+      }
+    } catch (IOException e) {
+      throw new SQLException("Failed to write the exported rows", e);
+    } finally {
+      JDBCStatementHelper.free(arrays);
+    }
+  }
+
+  private static String format(Object value) {
+    if (value instanceof Buffer) {
+      return Base64.getEncoder().encodeToString(((Buffer) value).getBytes());
+    }
+    if (value instanceof JsonObject) {
+      return ((JsonObject) value).encode();
+    }
+    if (value instanceof JsonArray) {
+      return ((JsonArray) value).encode();
+    }
+    return value.toString();
+  }
+
+  private static void appendCsv(StringBuilder sb, String s) {
+    boolean quote = false;
+    for (int i = 0; i < s.length() && !quote; i++) {
+      char c = s.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      sb.append(s);
+      return;
+    }
+    sb.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '"') {
+        sb.append('"');
+      }
+      sb.append(c);
+    }
+    sb.append('"');
+  }
+
+  private static void appendJson(StringBuilder sb, Object value) {
+    if (value == null) {
+      sb.append("null");
+    } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      sb.append(value);
+    } else if (value instanceof Double || value instanceof Float) {
+      double d = ((Number) value).doubleValue();
+      if (Double.isNaN(d) || Double.isInfinite(d)) {
+        appendJsonString(sb, value.toString());
+      } else {
+        sb.append(value);
+      }
+    } else if (value instanceof Number) {
+      // BigDecimal and BigInteger keep their precision
+      sb.append(value);
+    } else if (value instanceof JsonObject || value instanceof JsonArray) {
+      sb.append(format(value));
+    } else {
+      appendJsonString(sb, format(value));
+    }
+  }
+
+  private static void appendJsonString(StringBuilder sb, String s) {
+    sb.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+  }
+}
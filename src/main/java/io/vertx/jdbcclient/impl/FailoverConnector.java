@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.jdbcclient.JDBCConnectOptions;
+import io.vertx.jdbcclient.impl.actions.ColumnDescriptorInterner;
+import io.vertx.sqlclient.spi.connection.Connection;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects to the first endpoint, in order, whose circuit breaker allows it, trying the next endpoints when the
+ * attempt fails or exceeds the endpoint connect timeout.
+ */
+public class FailoverConnector {
+
+  private static final Logger log = LoggerFactory.getLogger(FailoverConnector.class);
+
+  public static class Endpoint {
+
+    final JDBCConnectOptions options;
+    final Callable<java.sql.Connection> connectionFactory;
+    final CircuitBreaker breaker;
+
+    public Endpoint(JDBCConnectOptions options, Callable<java.sql.Connection> connectionFactory) {
+      this.options = options;
+      this.connectionFactory = connectionFactory;
+      this.breaker = new CircuitBreaker(options.getCircuitBreakerFailureThreshold(),
+        options.getCircuitBreakerInitialBackoff(), options.getCircuitBreakerMaxBackoff());
+    }
+  }
+
+  private final List<Endpoint> endpoints;
+
+  public FailoverConnector(List<Endpoint> endpoints) {
+    this.endpoints = endpoints;
+  }
+
+  private static long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+
+  public Future<Connection> connect(VertxInternal vertx, ContextInternal context, ResultCache resultCache, ColumnDescriptorInterner interner) {
+    return connect(vertx, context, resultCache, interner, 0, null);
+  }
+
+  private Future<Connection> connect(VertxInternal vertx, ContextInternal context, ResultCache resultCache, ColumnDescriptorInterner interner, int from, Throwable lastFailure) {
+    long now = now();
+    int idx = from;
+    while (idx < endpoints.size() && !endpoints.get(idx).breaker.tryAcquire(now)) {
+      idx++;
+    }
+    if (idx == endpoints.size()) {
+      if (lastFailure != null) {
+        return context.failedFuture(lastFailure);
+      }
+      return context.failedFuture(new SQLException("No database endpoint available, the circuit breakers of all the endpoints are open"));
+    }
+    Endpoint endpoint = endpoints.get(idx);
+    int next = idx + 1;
+    return attempt(vertx, context, endpoint, resultCache, interner).transform(ar -> {
+      if (ar.succeeded()) {
+        endpoint.breaker.success();
+        return context.succeededFuture(ar.result());
+      }
+      endpoint.breaker.failure(now());
+      log.debug("Failed to connect to " + endpoint.options.getJdbcUrl() + ", trying the next endpoint", ar.cause());
+      return connect(vertx, context, resultCache, interner, next, ar.cause());
+    });
+  }
+
+  private Future<Connection> attempt(VertxInternal vertx, ContextInternal context, Endpoint endpoint, ResultCache resultCache, ColumnDescriptorInterner interner) {
+    Future<Connection> fut = new JDBCPoolImpl.ConnectionFactory(vertx, endpoint.options, endpoint.connectionFactory, resultCache, interner).connect(context, false);
+    long timeout = endpoint.options.getConnectTimeout();
+    if (timeout <= 0) {
+      return fut;
+    }
+    PromiseInternal<Connection> promise = context.promise();
+    long timerId = vertx.setTimer(timeout, id -> promise.tryFail(new SQLTimeoutException("Connection to " + endpoint.options.getJdbcUrl() + " timed out after " + timeout + "ms")));
+    fut.onComplete(ar -> {
+      vertx.cancelTimer(timerId);
+      if (ar.succeeded()) {
+        if (!promise.tryComplete(ar.result())) {
+          // the attempt timed out meanwhile
+          discard(context, (ConnectionImpl) ar.result());
+        }
+      } else {
+        promise.tryFail(ar.cause());
+      }
+    });
+    return promise.future();
+  }
+
+  private static void discard(ContextInternal context, ConnectionImpl connection) {
+    if (connection.metrics != null) {
+      connection.metrics.close();
+    }
+    context.executeBlocking(() -> {
+      connection.conn.close();
+      return null;
+    }, false);
+  }
+}
@@ -7,12 +7,14 @@ import io.vertx.core.Vertx;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.net.NetClientOptions;
+import io.vertx.jdbcclient.impl.actions.ColumnDescriptorInterner;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.internal.SqlConnectionInternal;
 import io.vertx.sqlclient.spi.DriverBase;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.connection.ConnectionFactory;
 
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 
@@ -32,10 +34,29 @@ public class FakeDriver extends DriverBase<FakeSqlConnectOptions> {
   };
 
   final Callable<java.sql.Connection> connectionFactory;
+  // set when the pool connects to several endpoints
+  private final FailoverConnector failover;
+  // shared by the connections of the pool
+  private ResultCache resultCache;
+  private final ColumnDescriptorInterner interner = new ColumnDescriptorInterner();
 
   public FakeDriver(Callable<java.sql.Connection> connectionFactory) {
     super("jdbcclient", AFTER_ACQUIRE, BEFORE_RECYCLE);
     this.connectionFactory = connectionFactory;
+    this.failover = null;
+  }
+
+  public FakeDriver(List<FailoverConnector.Endpoint> endpoints) {
+    super("jdbcclient", AFTER_ACQUIRE, BEFORE_RECYCLE);
+    this.connectionFactory = null;
+    this.failover = new FailoverConnector(endpoints);
+  }
+
+  synchronized ResultCache resultCache(int maxSize) {
+    if (resultCache == null) {
+      resultCache = new ResultCache(maxSize);
+    }
+    return resultCache;
   }
 
   @Override
@@ -49,7 +70,11 @@ public class FakeDriver extends DriverBase<FakeSqlConnectOptions> {
     return new ConnectionFactory<>() {
       @Override
       public Future<Connection> connect(Context context, FakeSqlConnectOptions options) {
-        return new JDBCPoolImpl.ConnectionFactory((VertxInternal) vertx, options.actual, connectionFactory).connect((ContextInternal) context);
+        ResultCache cache = resultCache(options.actual.getResultCacheMaxSize());
+        if (failover != null) {
+          return failover.connect((VertxInternal) vertx, (ContextInternal) context, cache, interner);
+        }
+        return new JDBCPoolImpl.ConnectionFactory((VertxInternal) vertx, options.actual, connectionFactory, cache, interner).connect((ContextInternal) context);
       }
       @Override
       public void close(Completable<Void> completion) {
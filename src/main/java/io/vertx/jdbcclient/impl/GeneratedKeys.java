@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.RowsList;
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.sqlclient.Row;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The keys generated by a statement. A single integral key column is stored as a {@code long[]}, the rows are only
+ * created when {@link #rows()} is called.
+ */
+public class GeneratedKeys implements RowsList {
+
+  private final JDBCRowDesc desc;
+  // the type of the single integral key column, null when the keys are stored as rows
+  private JDBCType compactType;
+  private long[] values;
+  private int size;
+  private List<Row> rows;
+  // the first key, shared with the list created by rows()
+  private Row first;
+
+  public GeneratedKeys(JDBCRowDesc desc, boolean compact) {
+    this.desc = desc;
+    this.compactType = compact ? compactType(desc) : null;
+    if (compactType != null) {
+      values = new long[16];
+    } else {
+      rows = new ArrayList<>();
+    }
+  }
+
+  private static JDBCType compactType(JDBCRowDesc desc) {
+    if (desc.columnDescriptors().size() != 1) {
+      return null;
+    }
+    JDBCType type = desc.columnDescriptors().get(0).jdbcType();
+    return type == JDBCType.INTEGER || type == JDBCType.BIGINT || type == JDBCType.SMALLINT ? type : null;
+  }
+
+  /**
+   * @return whether the next key can be added with {@link #add(long)}
+   */
+  public boolean isCompact() {
+    return compactType != null;
+  }
+
+  /**
+   * Add a key read with {@code getLong}.
+   *
+   * @return {@code false} when the value does not fit the type of the key column, e.g. an {@code INT UNSIGNED} key
+   *         reported as {@code INTEGER}, it must then be added with {@link #add(Row)}
+   */
+  public boolean add(long value) {
+    if (compactType == JDBCType.INTEGER ? value != (int) value : compactType == JDBCType.SMALLINT && value != (short) value) {
+      return false;
+    }
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+    }
+    values[size++] = value;
+    return true;
+  }
+
+  public void add(Row row) {
+    if (compactType != null) {
+      // e.g. a null key, switch to rows
+      rows = materialize();
+      compactType = null;
+      values = null;
+    }
+    rows.add(row);
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the first key
+   */
+  public synchronized Row first() {
+    if (compactType == null) {
+      return rows.get(0);
+    }
+    if (first == null) {
+      first = row(values[0]);
+    }
+    return first;
+  }
+
+  @Override
+  public synchronized List<Row> rows() {
+    if (compactType != null) {
+      rows = materialize();
+      compactType = null;
+      values = null;
+    }
+    return rows;
+  }
+
+  private List<Row> materialize() {
+    List<Row> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(i == 0 && first != null ? first : row(values[i]));
+    }
+    return list;
+  }
+
+  private Row row(long value) {
+    JDBCRow row = new JDBCRow(desc);
+    switch (compactType) {
+      case INTEGER:
+        row.addValue((int) value);
+        break;
+      case SMALLINT:
+        row.addValue((short) value);
+        break;
+      default:
+        row.addValue(value);
+        break;
+    }
+    return row;
+  }
+}
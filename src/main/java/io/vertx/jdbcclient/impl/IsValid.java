@@ -0,0 +1,21 @@
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCAction;
+import io.vertx.sqlclient.spi.protocol.CommandBase;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class IsValid extends CommandBase<Boolean> implements JDBCAction<Boolean> {
+
+  final int timeout;
+
+  public IsValid(int timeout) {
+    this.timeout = timeout;
+  }
+
+  @Override
+  public Boolean execute(Connection conn) throws SQLException {
+    return conn.isValid(timeout);
+  }
+}
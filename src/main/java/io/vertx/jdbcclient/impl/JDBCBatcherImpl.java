@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.jdbcclient.JDBCBatcher;
+import io.vertx.jdbcclient.JDBCBatchingOptions;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class JDBCBatcherImpl implements JDBCBatcher {
+
+  private final VertxInternal vertx;
+  private final Pool pool;
+  private final int maxBatchSize;
+  private final long maxDelay;
+  private final Map<String, Batch> pending = new HashMap<>();
+
+  public JDBCBatcherImpl(Vertx vertx, Pool pool, JDBCBatchingOptions options) {
+    this.vertx = (VertxInternal) vertx;
+    this.pool = pool;
+    this.maxBatchSize = options.getMaxBatchSize();
+    this.maxDelay = options.getMaxDelay();
+  }
+
+  @Override
+  public Future<Integer> execute(String sql, Tuple params) {
+    ContextInternal context = vertx.getOrCreateContext();
+    PromiseInternal<Integer> promise = context.promise();
+    Batch full = null;
+    synchronized (this) {
+      Batch batch = pending.get(sql);
+      if (batch == null) {
+        batch = new Batch(sql);
+        pending.put(sql, batch);
+        Batch b = batch;
+        batch.timerId = vertx.setTimer(maxDelay, id -> expire(b));
+      }
+      batch.params.add(params);
+      batch.promises.add(promise);
+      if (batch.params.size() >= maxBatchSize) {
+        pending.remove(sql);
+        vertx.cancelTimer(batch.timerId);
+        full = batch;
+      }
+    }
+    if (full != null) {
+      run(full);
+    }
+    return promise.future();
+  }
+
+  @Override
+  public Future<Void> flush() {
+    List<Batch> batches;
+    synchronized (this) {
+      batches = new ArrayList<>(pending.values());
+      pending.clear();
+    }
+    List<Future<Void>> futures = new ArrayList<>(batches.size());
+    for (Batch batch : batches) {
+      vertx.cancelTimer(batch.timerId);
+      futures.add(run(batch));
+    }
+    return Future.join(futures).mapEmpty();
+  }
+
+  private void expire(Batch batch) {
+    synchronized (this) {
+      if (pending.get(batch.sql) != batch) {
+        // already executed
+        return;
+      }
+      pending.remove(batch.sql);
+    }
+    run(batch);
+  }
+
+  private Future<Void> run(Batch batch) {
+    if (batch.params.size() == 1) {
+      return executeOne(batch.sql, batch.params.get(0), batch.promises.get(0));
+    }
+    return pool
+      .withTransaction(conn -> conn
+        .preparedQuery(batch.sql)
+        .executeBatch(batch.params)
+        // raised by the driver before the commit, e.g. a BatchUpdateException, the transaction is rolled back
+        .onFailure(err -> batch.rejected = err instanceof SQLException))
+      .compose(rows -> {
+        // one row holding the update count per execution
+        Iterator<Row> it = rows.iterator();
+        for (PromiseInternal<Integer> promise : batch.promises) {
+          promise.complete(it.hasNext() ? it.next().getInteger(0) : null);
+        }
+        return Future.<Void>succeededFuture();
+      }, err -> {
+        if (!batch.rejected) {
+          // the commit or the connection failed, the batch may have been applied and cannot be safely retried
+          for (PromiseInternal<Integer> promise : batch.promises) {
+            promise.fail(err);
+          }
+          return Future.<Void>succeededFuture();
+        }
+        // the database rejected the batch before the commit and the transaction has been rolled back, execute each
+        // statement on its own to isolate the failure
+        List<Future<Void>> futures = new ArrayList<>(batch.params.size());
+        for (int i = 0; i < batch.params.size(); i++) {
+          futures.add(executeOne(batch.sql, batch.params.get(i), batch.promises.get(i)));
+        }
+        return Future.join(futures).mapEmpty();
+      });
+  }
+
+  private Future<Void> executeOne(String sql, Tuple params, PromiseInternal<Integer> promise) {
+    Future<Integer> fut = pool
+      .preparedQuery(sql)
+      .execute(params)
+      .map(RowSet::rowCount);
+    fut.onComplete(promise);
+    // the failure is reported to the caller
+    return fut.<Void>mapEmpty().otherwiseEmpty();
+  }
+
+  private static class Batch {
+
+    final String sql;
+    final List<Tuple> params = new ArrayList<>();
+    final List<PromiseInternal<Integer>> promises = new ArrayList<>();
+    long timerId;
+    boolean rejected;
+
+    Batch(String sql) {
+      this.sql = sql;
+    }
+  }
+}
@@ -2,14 +2,22 @@ package io.vertx.jdbcclient.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.jdbcclient.JDBCConnection;
+import io.vertx.jdbcclient.JDBCExportOptions;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.spi.connection.Connection;
 import io.vertx.sqlclient.spi.connection.ConnectionFactory;
 import io.vertx.sqlclient.internal.SqlConnectionBase;
 import io.vertx.sqlclient.internal.SqlConnectionInternal;
 import io.vertx.sqlclient.spi.Driver;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class JDBCConnectionImpl extends SqlConnectionBase<JDBCConnectionImpl> implements JDBCConnection {
 
   static ConnectionImpl implOf(SqlConnection conn) {
@@ -27,7 +35,7 @@ public class JDBCConnectionImpl extends SqlConnectionBase<JDBCConnectionImpl> im
 
   @Override
   public JDBCConnection setQueryTimeout(int timeoutInSeconds) {
-    implOf(this).sqlOptions.setQueryTimeout(timeoutInSeconds);
+    implOf(this).setQueryTimeout(timeoutInSeconds);
     return this;
   }
 
@@ -38,4 +46,22 @@ public class JDBCConnectionImpl extends SqlConnectionBase<JDBCConnectionImpl> im
   public Future<Void> setTransactionIsolation(int isolationLevel) {
     return schedule(context, new SetTransactionIsolation(isolationLevel));
   }
+
+  public Future<Boolean> isValid(int timeoutInSeconds) {
+    return schedule(context, new IsValid(timeoutInSeconds));
+  }
+
+  public Future<Long> bulkLoad(String table, List<String> columns, ReadStream<Tuple> rows) {
+    if (columns.isEmpty()) {
+      return context.failedFuture(new IllegalArgumentException("At least one column is required"));
+    }
+    ReadStreamBridge<Tuple> bridge = new ReadStreamBridge<>(context, rows, BulkLoad.HIGH_WATER_MARK);
+    return schedule(context, new BulkLoad(implOf(this).helper.getEncoder(), table, new ArrayList<>(columns), bridge));
+  }
+
+  public Future<Long> export(String sql, Tuple params, WriteStream<Buffer> destination, JDBCExportOptions options) {
+    WriteStreamBridge bridge = new WriteStreamBridge(context, destination, options.getWriteTimeout());
+    return schedule(context, new Export(implOf(this).helper, sql, params, options, bridge))
+      .compose(count -> bridge.lastWrite().map(count));
+  }
 }
@@ -22,6 +22,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.jdbcclient.impl.actions.ColumnDescriptorInterner;
 import io.vertx.jdbcclient.impl.actions.JDBCStatementHelper;
 import io.vertx.jdbcclient.JDBCConnectOptions;
 
@@ -99,11 +100,19 @@ public class JDBCPoolImpl {
     private final VertxInternal vertx;
     private final JDBCConnectOptions sqlOptions;
     private final Callable<Connection> connectionFactory;
+    private final ResultCache resultCache;
+    private final ColumnDescriptorInterner interner;
 
     public ConnectionFactory(VertxInternal vertx, JDBCConnectOptions sqlOptions, Callable<Connection> connectionFactory) {
+      this(vertx, sqlOptions, connectionFactory, null, new ColumnDescriptorInterner());
+    }
+
+    public ConnectionFactory(VertxInternal vertx, JDBCConnectOptions sqlOptions, Callable<Connection> connectionFactory, ResultCache resultCache, ColumnDescriptorInterner interner) {
       this.vertx = vertx;
       this.sqlOptions = sqlOptions;
       this.connectionFactory = connectionFactory;
+      this.resultCache = resultCache;
+      this.interner = interner;
     }
 
     private SocketAddress getServer(Connection conn) throws Exception {
@@ -138,18 +147,26 @@ public class JDBCPoolImpl {
     }
 
     public Future<io.vertx.sqlclient.spi.connection.Connection> connect(ContextInternal context) {
+      return connect(context, true);
+    }
+
+    /**
+     * @param ordered whether the connect task is queued behind the other blocking tasks of the context, failover
+     *                attempts are unordered so an endpoint that hangs does not delay the attempt on the next one
+     */
+    public Future<io.vertx.sqlclient.spi.connection.Connection> connect(ContextInternal context, boolean ordered) {
       JsonObject cfg = sqlOptions.getExtraConfig();
       if (cfg == null) {
         cfg = new JsonObject();
       }
-      JDBCStatementHelper helper = new JDBCStatementHelper(cfg);
+      JDBCStatementHelper helper = new JDBCStatementHelper(cfg, interner);
       return context.executeBlockingInternal(() -> {
         Connection conn = connectionFactory.call();
         VertxMetrics vertxMetrics = vertx.metrics();
         SocketAddress server = getServer(conn);
         ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(server, "sql", sqlOptions.getMetricsName()) : null;
-        return new ConnectionImpl(helper, context, sqlOptions, conn, metrics, sqlOptions.getUser(), sqlOptions.getDatabase(), server);
-      });
+        return new ConnectionImpl(helper, context, sqlOptions, conn, metrics, sqlOptions.getUser(), sqlOptions.getDatabase(), server, sqlOptions.getPipeliningLimit(), resultCache);
+      }, ordered);
     }
   }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.jdbcclient.JDBCConnection;
+import io.vertx.jdbcclient.JDBCPrepareOptions;
+import io.vertx.jdbcclient.JDBCReadWriteOptions;
+import io.vertx.jdbcclient.JDBCReadWritePool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class JDBCReadWritePoolImpl implements JDBCReadWritePool {
+
+  private static class Replica {
+
+    final Pool pool;
+    final AtomicInteger outstanding = new AtomicInteger();
+    volatile boolean healthy = true;
+    volatile boolean checking;
+
+    Replica(Pool pool) {
+      this.pool = pool;
+    }
+  }
+
+  private final Vertx vertx;
+  private final Pool primary;
+  private final List<Replica> replicas;
+  private final int healthCheckTimeout;
+  private final String healthCheckQuery;
+  private final AtomicInteger next = new AtomicInteger();
+  private final long timerId;
+
+  public JDBCReadWritePoolImpl(Vertx vertx, Pool primary, List<Pool> replicas, JDBCReadWriteOptions options) {
+    this.vertx = vertx;
+    this.primary = primary;
+    this.replicas = new ArrayList<>(replicas.size());
+    for (Pool replica : replicas) {
+      this.replicas.add(new Replica(replica));
+    }
+    this.healthCheckTimeout = options.getHealthCheckTimeout();
+    this.healthCheckQuery = options.getHealthCheckQuery();
+    if (options.getHealthCheckInterval() > 0 && !replicas.isEmpty()) {
+      timerId = vertx.setPeriodic(options.getHealthCheckInterval(), id -> checkReplicas());
+    } else {
+      timerId = -1;
+    }
+  }
+
+  @Override
+  public Pool primary() {
+    return primary;
+  }
+
+  @Override
+  public <T> Future<T> withReplica(Function<Pool, Future<T>> function) {
+    Replica replica = select();
+    if (replica == null) {
+      return apply(function, primary);
+    }
+    replica.outstanding.incrementAndGet();
+    return apply(function, replica.pool)
+      .andThen(ar -> replica.outstanding.decrementAndGet());
+  }
+
+  @Override
+  public Future<RowSet<Row>> execute(String sql, Tuple params, JDBCPrepareOptions options) {
+    if (options != null && options.isReadOnly()) {
+      return withReplica(pool -> pool.preparedQuery(sql, options).execute(params));
+    }
+    return options != null ? primary.preparedQuery(sql, options).execute(params) : primary.preparedQuery(sql).execute(params);
+  }
+
+  @Override
+  public Future<Void> close() {
+    if (timerId != -1) {
+      vertx.cancelTimer(timerId);
+    }
+    List<Future<Void>> futures = new ArrayList<>(replicas.size() + 1);
+    futures.add(primary.close());
+    for (Replica replica : replicas) {
+      futures.add(replica.pool.close());
+    }
+    return Future.join(futures).mapEmpty();
+  }
+
+  private static <T> Future<T> apply(Function<Pool, Future<T>> function, Pool pool) {
+    try {
+      return function.apply(pool);
+    } catch (Throwable t) {
+      return Future.failedFuture(t);
+    }
+  }
+
+  /**
+   * @return the healthy replica with the least outstanding requests, ties are broken in round-robin order
+   */
+  private Replica select() {
+    int size = replicas.size();
+    if (size == 0) {
+      return null;
+    }
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    Replica best = null;
+    int min = Integer.MAX_VALUE;
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.healthy) {
+        int outstanding = replica.outstanding.get();
+        if (outstanding < min) {
+          best = replica;
+          min = outstanding;
+        }
+      }
+    }
+    return best;
+  }
+
+  private void checkReplicas() {
+    for (Replica replica : replicas) {
+      if (replica.checking) {
+        continue;
+      }
+      replica.checking = true;
+      // set by the check or by its timeout, whichever comes first
+      AtomicBoolean done = new AtomicBoolean();
+      long timeout = healthCheckTimeout > 0 ? vertx.setTimer(healthCheckTimeout * 1000L, id -> {
+        if (done.compareAndSet(false, true)) {
+          // e.g. a hung replica, checked again at the next interval
+          replica.healthy = false;
+          replica.checking = false;
+        }
+      }) : -1;
+      replica.pool
+        .withConnection(this::check)
+        .onComplete(ar -> {
+          if (timeout != -1) {
+            vertx.cancelTimer(timeout);
+          }
+          if (done.compareAndSet(false, true)) {
+            replica.healthy = ar.succeeded() && ar.result();
+            replica.checking = false;
+          }
+        });
+    }
+  }
+
+  private Future<Boolean> check(SqlConnection conn) {
+    if (healthCheckQuery != null) {
+      return conn.query(healthCheckQuery).execute().map(rows -> true);
+    }
+    if (conn instanceof JDBCConnection) {
+      return ((JDBCConnection) conn).isValid(healthCheckTimeout);
+    }
+    return Future.succeededFuture(true);
+  }
+}
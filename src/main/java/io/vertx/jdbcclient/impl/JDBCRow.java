@@ -26,6 +26,14 @@ public class JDBCRow extends ArrayTuple implements Row {
     this.desc = desc;
   }
 
+  /**
+   * Constructor for the rows that do not store their values in the tuple.
+   */
+  protected JDBCRow(JDBCRowDesc desc, int capacity) {
+    super(capacity);
+    this.desc = desc;
+  }
+
   @Override
   public String getColumnName(int pos) {
     List<String> columnNames = desc.columnNames();
@@ -35,7 +43,7 @@ public class JDBCRow extends ArrayTuple implements Row {
   @Override
   public int getColumnIndex(String name) {
     Objects.requireNonNull(name, "'name' cannot be null");
-    return desc.columnNames().indexOf(name);
+    return desc.columnIndex(name);
   }
 
   @Override
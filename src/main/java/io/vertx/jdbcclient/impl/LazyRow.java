@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCColumnDescriptor;
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.jdbcclient.impl.actions.JDBCTypeWrapper;
+import io.vertx.jdbcclient.spi.JDBCDecoder;
+import io.vertx.sqlclient.Tuple;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * A row keeping the values returned by the driver for some columns, the {@link JDBCDecoder} conversion is applied on
+ * first access and its result replaces the raw value.
+ * <p>
+ * The decoder is given a value provider emulating {@code ResultSet#getObject(int, Class)} over the raw value, so only
+ * the columns whose conversion can be reproduced without the result set are deferred, see
+ * {@link #isDeferrable(JDBCColumnDescriptor)} and {@link #isDeferrable(Object)}.
+ */
+public class LazyRow extends JDBCRow {
+
+  private final JDBCRowDesc desc;
+  private final JDBCDecoder decoder;
+  // bit set of the columns holding a raw value, null when all values are decoded
+  private volatile long[] pending;
+
+  public LazyRow(JDBCRowDesc desc, JDBCDecoder decoder) {
+    super(desc);
+    this.desc = desc;
+    this.decoder = decoder;
+  }
+
+  /**
+   * @return whether the values of a column can be decoded after the result set has been consumed
+   */
+  public static boolean isDeferrable(JDBCColumnDescriptor descriptor) {
+    if (descriptor == null || descriptor.isArray()) {
+      return false;
+    }
+    JDBCTypeWrapper wrapper = descriptor.jdbcTypeWrapper();
+    if (wrapper.isNumberType() || wrapper.isStringType() || wrapper.isBinaryType()) {
+      return true;
+    }
+    JDBCType type = descriptor.jdbcType();
+    return type == JDBCType.BIT || type == JDBCType.BOOLEAN || type == JDBCType.DATE || type == JDBCType.TIME ||
+      type == JDBCType.TIMESTAMP;
+  }
+
+  /**
+   * @return whether a raw value returned by the driver can be kept, other values must be decoded eagerly
+   */
+  public static boolean isDeferrable(Object raw) {
+    return raw instanceof Number || raw instanceof String || raw instanceof Boolean || raw instanceof byte[] ||
+      raw instanceof Date || raw instanceof Time || raw instanceof Timestamp || raw instanceof LocalDate ||
+      raw instanceof LocalTime || raw instanceof LocalDateTime;
+  }
+
+  /**
+   * Append a raw value, decoded on first access.
+   */
+  public void addRaw(Object raw) {
+    int pos = size();
+    addValue(raw);
+    if (raw != null) {
+      long[] bits = pending;
+      if (bits == null) {
+        pending = bits = new long[(desc.columnNames().size() + 63) >>> 6];
+      }
+      bits[pos >>> 6] |= 1L << pos;
+    }
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    if (pending != null) {
+      decode(pos);
+    }
+    return super.getValue(pos);
+  }
+
+  @Override
+  public Tuple setValue(int pos, Object value) {
+    if (pending != null) {
+      clearPending(pos);
+    }
+    return super.setValue(pos, value);
+  }
+
+  @Override
+  public void clear() {
+    synchronized (this) {
+      pending = null;
+    }
+    super.clear();
+  }
+
+  private synchronized void decode(int pos) {
+    long[] bits = pending;
+    if (bits == null || pos < 0 || (pos >>> 6) >= bits.length || (bits[pos >>> 6] & (1L << pos)) == 0) {
+      return;
+    }
+    Object raw = super.getValue(pos);
+    JDBCColumnDescriptor descriptor = (JDBCColumnDescriptor) desc.columnDescriptors().get(pos);
+    Object value;
+    try {
+      // a throwaway copy, the hints the decoder learns from the emulated conversions must not apply to other values
+      value = decoder.decode(descriptor.copy(), cls -> coerce(raw, cls));
+    } catch (SQLException e) {
+      throw new IllegalStateException("Cannot decode column " + descriptor.name(), e);
+    }
+    super.setValue(pos, value);
+    clearPending(pos);
+  }
+
+  private synchronized void clearPending(int pos) {
+    long[] bits = pending;
+    if (bits == null || pos < 0 || (pos >>> 6) >= bits.length) {
+      return;
+    }
+    bits[pos >>> 6] &= ~(1L << pos);
+    for (long b : bits) {
+      if (b != 0L) {
+        return;
+      }
+    }
+    pending = null;
+  }
+
+  /**
+   * Emulate {@code ResultSet#getObject(int, Class)} for a raw value.
+   */
+  private static Object coerce(Object raw, Class<?> cls) throws SQLException {
+    if (cls == null || cls.isInstance(raw)) {
+      return raw;
+    }
+    if (raw instanceof Timestamp) {
+      if (cls == LocalDateTime.class) {
+        return ((Timestamp) raw).toLocalDateTime();
+      }
+      if (cls == LocalDate.class) {
+        return ((Timestamp) raw).toLocalDateTime().toLocalDate();
+      }
+      if (cls == LocalTime.class) {
+        return ((Timestamp) raw).toLocalDateTime().toLocalTime();
+      }
+    } else if (raw instanceof Date) {
+      if (cls == LocalDate.class) {
+        return ((Date) raw).toLocalDate();
+      }
+      if (cls == LocalDateTime.class) {
+        return ((Date) raw).toLocalDate().atStartOfDay();
+      }
+    } else if (raw instanceof Time) {
+      if (cls == LocalTime.class) {
+        return ((Time) raw).toLocalTime();
+      }
+    } else if (raw instanceof String) {
+      // drivers storing values as text (e.g. SQLite) convert them on request
+      String text = ((String) raw).trim();
+      try {
+        if (cls == LocalDate.class) {
+          return LocalDate.parse(text);
+        }
+        if (cls == LocalTime.class) {
+          return LocalTime.parse(text);
+        }
+        if (cls == LocalDateTime.class) {
+          return LocalDateTime.parse(text.replace(' ', 'T'));
+        }
+        if (Number.class.isAssignableFrom(cls) || cls.isPrimitive()) {
+          return coerce(new BigDecimal(text), cls);
+        }
+      } catch (DateTimeParseException | NumberFormatException e) {
+        throw new SQLException("Cannot convert " + raw + " to " + cls.getName(), e);
+      }
+    } else if (raw instanceof Number) {
+      Number n = (Number) raw;
+      if (cls == Float.class || cls == float.class) {
+        return n.floatValue();
+      }
+      if (cls == Double.class || cls == double.class) {
+        return n.doubleValue();
+      }
+      // integral conversions fail instead of truncating, as the driver does, so that the decoder falls back
+      try {
+        BigDecimal value = decimal(n);
+        if (cls == Byte.class || cls == byte.class) {
+          return value.byteValueExact();
+        }
+        if (cls == Short.class || cls == short.class) {
+          return value.shortValueExact();
+        }
+        if (cls == Integer.class || cls == int.class) {
+          return value.intValueExact();
+        }
+        if (cls == Long.class || cls == long.class) {
+          return value.longValueExact();
+        }
+        if (cls == BigInteger.class) {
+          return value.toBigIntegerExact();
+        }
+        if (cls == BigDecimal.class) {
+          return value;
+        }
+      } catch (ArithmeticException | NumberFormatException e) {
+        throw new SQLException("Cannot convert " + raw + " to " + cls.getName(), e);
+      }
+    }
+    throw new SQLException("Cannot convert " + raw.getClass().getName() + " to " + cls.getName());
+  }
+
+  private static BigDecimal decimal(Number n) {
+    if (n instanceof BigDecimal) {
+      return (BigDecimal) n;
+    }
+    if (n instanceof BigInteger) {
+      return new BigDecimal((BigInteger) n);
+    }
+    if (n instanceof Double || n instanceof Float) {
+      return BigDecimal.valueOf(n.doubleValue());
+    }
+    return BigDecimal.valueOf(n.longValue());
+  }
+}
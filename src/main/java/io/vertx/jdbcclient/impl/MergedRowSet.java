@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The concatenation of the results of the same statement executed on several databases.
+ */
+public class MergedRowSet implements RowSet<Row> {
+
+  private final List<Row> rows;
+  private final List<String> columnsNames;
+  private final List<ColumnDescriptor> columnDescriptors;
+  private final int rowCount;
+
+  public MergedRowSet(List<RowSet<Row>> results) {
+    int size = 0;
+    // -1 unless a database reported a count, e.g. a query does not report the number of updated rows
+    int count = -1;
+    List<String> names = null;
+    List<ColumnDescriptor> descriptors = null;
+    for (RowSet<Row> result : results) {
+      size += result.size();
+      if (result.rowCount() >= 0) {
+        count = Math.max(count, 0) + result.rowCount();
+      }
+      if (names == null) {
+        names = result.columnsNames();
+        descriptors = result.columnDescriptors();
+      }
+    }
+    this.rows = new ArrayList<>(size);
+    for (RowSet<Row> result : results) {
+      for (Row row : result) {
+        rows.add(row);
+      }
+    }
+    this.columnsNames = names;
+    this.columnDescriptors = descriptors;
+    this.rowCount = count;
+  }
+
+  @Override
+  public RowIterator<Row> iterator() {
+    Iterator<Row> it = rows.iterator();
+    return new RowIterator<Row>() {
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+      @Override
+      public Row next() {
+        return it.next();
+      }
+    };
+  }
+
+  @Override
+  public int rowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public List<String> columnsNames() {
+    return columnsNames;
+  }
+
+  @Override
+  public List<ColumnDescriptor> columnDescriptors() {
+    return columnDescriptors;
+  }
+
+  @Override
+  public int size() {
+    return rows.size();
+  }
+
+  @Override
+  public <V> V property(PropertyKind<V> propertyKind) {
+    // properties are specific to the result of each database
+    return null;
+  }
+
+  @Override
+  public RowSet<Row> value() {
+    return this;
+  }
+
+  @Override
+  public RowSet<Row> next() {
+    return null;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * A row whose values are stored in an {@link OffHeapRowBuffer}, values are decoded on each access.
+ */
+public class OffHeapRow extends JDBCRow {
+
+  private final OffHeapRowBuffer buffer;
+  private final int offset;
+  private final int size;
+
+  public OffHeapRow(JDBCRowDesc desc, OffHeapRowBuffer buffer, int offset) {
+    super(desc, 0);
+    this.buffer = buffer;
+    this.offset = offset;
+    this.size = desc.columnNames().size();
+  }
+
+  public OffHeapRowBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    if (pos < 0 || pos >= size) {
+      throw new IndexOutOfBoundsException("Invalid column index " + pos);
+    }
+    return buffer.read(buffer.valueOffset(offset, pos));
+  }
+
+  @Override
+  public Tuple addValue(Object value) {
+    throw new UnsupportedOperationException("Off-heap rows are read-only");
+  }
+
+  @Override
+  public Tuple setValue(int pos, Object value) {
+    throw new UnsupportedOperationException("Off-heap rows are read-only");
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("Off-heap rows are read-only");
+  }
+}
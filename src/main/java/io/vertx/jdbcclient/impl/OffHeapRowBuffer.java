@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.lang.ref.Cleaner;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The off-heap storage of the rows of a result, see {@link io.vertx.jdbcclient.SqlOptions#setOffHeapRows(boolean)}.
+ * <p>
+ * Each value is written as a one byte tag followed by a fixed or length prefixed payload. A row starts with a table of
+ * the offsets of its values relative to the row, followed by the sequence of its values, so any value is read in
+ * constant time. Values without a binary encoding are kept on-heap and referenced by index.
+ * <p>
+ * The buffer is written by a single worker thread, then only read with absolute accessors so rows can be read from
+ * any thread. The memory is released when the buffer is no longer reachable, or explicitly with {@link #release()}.
+ */
+public class OffHeapRowBuffer {
+
+  private static final Cleaner CLEANER = Cleaner.create();
+  private static final int INITIAL_CAPACITY = 64 * 1024;
+
+  private static final byte NULL = 0;
+  private static final byte BOOLEAN = 1;
+  private static final byte BYTE = 2;
+  private static final byte SHORT = 3;
+  private static final byte INT = 4;
+  private static final byte LONG = 5;
+  private static final byte FLOAT = 6;
+  private static final byte DOUBLE = 7;
+  private static final byte STRING = 8;
+  private static final byte BUFFER = 9;
+  private static final byte BIG_DECIMAL = 10;
+  private static final byte LOCAL_DATE = 11;
+  private static final byte LOCAL_TIME = 12;
+  private static final byte LOCAL_DATE_TIME = 13;
+  private static final byte OFFSET_DATE_TIME = 14;
+  private static final byte UUID_VALUE = 15;
+  private static final byte OBJECT = 16;
+
+  private static class Releaser implements Runnable {
+
+    private final ByteBuf buf;
+
+    Releaser(ByteBuf buf) {
+      this.buf = buf;
+    }
+
+    @Override
+    public void run() {
+      buf.release();
+    }
+  }
+
+  private final ByteBuf buf;
+  private final List<Object> objects = new ArrayList<>();
+  private final Cleaner.Cleanable cleanable;
+  private volatile boolean released;
+  // the row being written and the index of its next value
+  private int rowOffset;
+  private int column;
+
+  public OffHeapRowBuffer() {
+    this.buf = Unpooled.directBuffer(INITIAL_CAPACITY);
+    this.cleanable = CLEANER.register(this, new Releaser(buf));
+  }
+
+  /**
+   * Release the memory, the rows cannot be read afterwards.
+   */
+  public void release() {
+    released = true;
+    cleanable.clean();
+  }
+
+  /**
+   * Start a row, its values are then written with {@link #append(Object)}.
+   *
+   * @param columns the number of values of the row
+   * @return the offset of the row
+   */
+  public int startRow(int columns) {
+    rowOffset = buf.writerIndex();
+    column = 0;
+    buf.writeZero(columns * 4);
+    return rowOffset;
+  }
+
+  public void append(Object value) {
+    buf.setInt(rowOffset + 4 * column++, buf.writerIndex() - rowOffset);
+    if (value == null) {
+      buf.writeByte(NULL);
+    } else if (value instanceof Boolean) {
+      buf.writeByte(BOOLEAN).writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      buf.writeByte(INT).writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      buf.writeByte(LONG).writeLong((Long) value);
+    } else if (value instanceof String) {
+      buf.writeByte(STRING);
+      writeString((String) value);
+    } else if (value instanceof Double) {
+      buf.writeByte(DOUBLE).writeDouble((Double) value);
+    } else if (value instanceof Float) {
+      buf.writeByte(FLOAT).writeFloat((Float) value);
+    } else if (value instanceof Short) {
+      buf.writeByte(SHORT).writeShort((Short) value);
+    } else if (value instanceof Byte) {
+      buf.writeByte(BYTE).writeByte((Byte) value);
+    } else if (value instanceof BigDecimal) {
+      buf.writeByte(BIG_DECIMAL);
+      writeString(value.toString());
+    } else if (value instanceof Buffer) {
+      Buffer buffer = (Buffer) value;
+      buf.writeByte(BUFFER).writeInt(buffer.length());
+      if (buffer instanceof BufferInternal) {
+        ByteBuf content = ((BufferInternal) buffer).getByteBuf();
+        buf.writeBytes(content, content.readerIndex(), buffer.length());
+      } else {
+        buf.writeBytes(buffer.getBytes());
+      }
+    } else if (value instanceof LocalDate) {
+      buf.writeByte(LOCAL_DATE).writeLong(((LocalDate) value).toEpochDay());
+    } else if (value instanceof LocalTime) {
+      buf.writeByte(LOCAL_TIME).writeLong(((LocalTime) value).toNanoOfDay());
+    } else if (value instanceof LocalDateTime) {
+      LocalDateTime dt = (LocalDateTime) value;
+      buf.writeByte(LOCAL_DATE_TIME).writeLong(dt.toLocalDate().toEpochDay()).writeLong(dt.toLocalTime().toNanoOfDay());
+    } else if (value instanceof OffsetDateTime) {
+      OffsetDateTime dt = (OffsetDateTime) value;
+      buf.writeByte(OFFSET_DATE_TIME).writeLong(dt.toEpochSecond()).writeInt(dt.getNano()).writeInt(dt.getOffset().getTotalSeconds());
+    } else if (value instanceof UUID) {
+      UUID uuid = (UUID) value;
+      buf.writeByte(UUID_VALUE).writeLong(uuid.getMostSignificantBits()).writeLong(uuid.getLeastSignificantBits());
+    } else {
+      buf.writeByte(OBJECT).writeInt(objects.size());
+      objects.add(value);
+    }
+  }
+
+  private void writeString(String s) {
+    int lengthIndex = buf.writerIndex();
+    buf.writeInt(0);
+    int length = buf.writeCharSequence(s, StandardCharsets.UTF_8);
+    buf.setInt(lengthIndex, length);
+  }
+
+  private void checkReleased() {
+    if (released) {
+      throw new IllegalStateException("The rows have been released");
+    }
+  }
+
+  /**
+   * @return the offset of the value at {@code pos} of the row at {@code row}
+   */
+  int valueOffset(int row, int pos) {
+    checkReleased();
+    return row + buf.getInt(row + 4 * pos);
+  }
+
+  /**
+   * @return the value at {@code offset}
+   */
+  Object read(int offset) {
+    checkReleased();
+    int p = offset + 1;
+    switch (buf.getByte(offset)) {
+      case NULL:
+        return null;
+      case BOOLEAN:
+        return buf.getBoolean(p);
+      case BYTE:
+        return buf.getByte(p);
+      case SHORT:
+        return buf.getShort(p);
+      case INT:
+        return buf.getInt(p);
+      case LONG:
+        return buf.getLong(p);
+      case FLOAT:
+        return buf.getFloat(p);
+      case DOUBLE:
+        return buf.getDouble(p);
+      case STRING:
+        return buf.toString(p + 4, buf.getInt(p), StandardCharsets.UTF_8);
+      case BIG_DECIMAL:
+        return new BigDecimal(buf.toString(p + 4, buf.getInt(p), StandardCharsets.UTF_8));
+      case BUFFER: {
+        byte[] bytes = new byte[buf.getInt(p)];
+        buf.getBytes(p + 4, bytes);
+        return Buffer.buffer(bytes);
+      }
+      case LOCAL_DATE:
+        return LocalDate.ofEpochDay(buf.getLong(p));
+      case LOCAL_TIME:
+        return LocalTime.ofNanoOfDay(buf.getLong(p));
+      case LOCAL_DATE_TIME:
+        return LocalDateTime.of(LocalDate.ofEpochDay(buf.getLong(p)), LocalTime.ofNanoOfDay(buf.getLong(p + 8)));
+      case OFFSET_DATE_TIME: {
+        ZoneOffset zone = ZoneOffset.ofTotalSeconds(buf.getInt(p + 12));
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(buf.getLong(p), buf.getInt(p + 8)), zone);
+      }
+      case UUID_VALUE:
+        return new UUID(buf.getLong(p), buf.getLong(p + 8));
+      case OBJECT:
+        return objects.get(buf.getInt(p));
+      default:
+        throw new IllegalStateException();
+    }
+  }
+}
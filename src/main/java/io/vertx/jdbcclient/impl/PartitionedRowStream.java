@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.jdbcclient.JDBCPartitionOptions;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * A stream over the rows of a query executed concurrently for several partitions, each partition being streamed on
+ * its own connection.
+ * <p>
+ * Rows are buffered per partition, a partition stream is paused when it has buffered {@code fetchSize} rows. Without
+ * a sort column, the partitions are queried at most {@code maxConcurrency} at a time and their rows are emitted in
+ * round-robin order. With a sort column, all the partitions are queried at once and merged with a heap ordered on the
+ * head row of each partition: a row is only emitted when every partition still running has buffered a row.
+ * <p>
+ * The state is only accessed from the context the stream was created on.
+ */
+public class PartitionedRowStream implements RowStream<Row> {
+
+  private class Partition {
+
+    final Tuple params;
+    final ArrayDeque<Row> buffer = new ArrayDeque<>();
+    // completing it ends the transaction of the partition, releasing its connection
+    final Promise<Void> done = Promise.promise();
+    volatile RowStream<Row> stream;
+    boolean paused;
+    boolean ended;
+
+    Partition(Tuple params) {
+      this.params = params;
+    }
+  }
+
+  private final ContextInternal context;
+  private final Pool pool;
+  private final String sql;
+  private final List<Partition> partitions;
+  private final int maxConcurrency;
+  private final int fetchSize;
+  private final String sortColumn;
+  private final boolean descending;
+  private final List<Future<Void>> transactions = new ArrayList<>();
+  // partitions with buffered rows
+  private final Queue<Partition> ready;
+  private Handler<Row> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private long demand = Long.MAX_VALUE;
+  private int next;
+  private int running;
+  // running partitions with no buffered row, the merge waits for them
+  private int waiting;
+  private int sortIndex = -1;
+  private boolean started;
+  private boolean emitting;
+  private boolean done;
+
+  public PartitionedRowStream(ContextInternal context, Pool pool, String sql, List<Tuple> partitions, JDBCPartitionOptions options) {
+    this.context = context;
+    this.pool = pool;
+    this.sql = sql;
+    this.partitions = new ArrayList<>(partitions.size());
+    for (Tuple params : partitions) {
+      this.partitions.add(new Partition(params));
+    }
+    this.fetchSize = options.getFetchSize();
+    this.sortColumn = options.getSortColumn();
+    this.descending = options.isSortDescending();
+    if (sortColumn != null) {
+      if (partitions.size() > options.getMaxConcurrency()) {
+        throw new IllegalArgumentException("Merging " + partitions.size() + " partitions on a sort column requires a max concurrency of at least " + partitions.size());
+      }
+      this.maxConcurrency = partitions.size();
+      Comparator<Partition> order = (p1, p2) -> compare(p1.buffer.peek(), p2.buffer.peek());
+      this.ready = new PriorityQueue<>(Math.max(1, partitions.size()), order);
+    } else {
+      this.maxConcurrency = options.getMaxConcurrency();
+      this.ready = new ArrayDeque<>();
+    }
+  }
+
+  private void exec(Runnable action) {
+    if (context.isRunningOnContext()) {
+      action.run();
+    } else {
+      context.runOnContext(v -> action.run());
+    }
+  }
+
+  @Override
+  public RowStream<Row> exceptionHandler(Handler<Throwable> handler) {
+    exec(() -> exceptionHandler = handler);
+    return this;
+  }
+
+  @Override
+  public RowStream<Row> handler(Handler<Row> handler) {
+    exec(() -> {
+      this.handler = handler;
+      if (handler != null && !started) {
+        started = true;
+        openPartitions();
+        drain();
+      }
+    });
+    return this;
+  }
+
+  @Override
+  public RowStream<Row> pause() {
+    exec(() -> demand = 0L);
+    return this;
+  }
+
+  @Override
+  public RowStream<Row> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public RowStream<Row> fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid fetch amount " + amount);
+    }
+    exec(() -> {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+      drain();
+    });
+    return this;
+  }
+
+  @Override
+  public RowStream<Row> endHandler(Handler<Void> handler) {
+    exec(() -> endHandler = handler);
+    return this;
+  }
+
+  @Override
+  public Future<Void> close() {
+    Promise<Void> promise = context.promise();
+    exec(() -> {
+      done = true;
+      for (Partition partition : partitions) {
+        closeStream(partition);
+        partition.done.tryComplete();
+      }
+      Future.join(new ArrayList<>(transactions)).<Void>mapEmpty().onComplete(promise);
+    });
+    return promise.future();
+  }
+
+  private void openPartitions() {
+    while (!done && running < maxConcurrency && next < partitions.size()) {
+      Partition partition = partitions.get(next++);
+      running++;
+      waiting++;
+      transactions.add(pool
+        .withTransaction(conn -> conn
+          .prepare(sql)
+          .compose(ps -> {
+            RowStream<Row> stream = ps.createStream(fetchSize, partition.params);
+            partition.stream = stream;
+            stream.exceptionHandler(err -> exec(() -> handleFailure(err)));
+            stream.endHandler(v -> exec(() -> handleEnd(partition)));
+            stream.handler(row -> exec(() -> handleRow(partition, row)));
+            return partition.done.future();
+          }))
+        .onFailure(err -> exec(() -> handleFailure(err))));
+    }
+  }
+
+  private void handleRow(Partition partition, Row row) {
+    if (done) {
+      return;
+    }
+    if (sortColumn != null && sortIndex == -1) {
+      try {
+        sortIndex = sortIndex(row);
+      } catch (IllegalArgumentException e) {
+        handleFailure(e);
+        return;
+      }
+    }
+    if (partition.buffer.isEmpty()) {
+      waiting--;
+      partition.buffer.add(row);
+      ready.add(partition);
+    } else {
+      partition.buffer.add(row);
+    }
+    if (!partition.paused && partition.buffer.size() >= fetchSize) {
+      partition.paused = true;
+      partition.stream.pause();
+    }
+    drain();
+  }
+
+  private void handleEnd(Partition partition) {
+    if (done) {
+      return;
+    }
+    partition.ended = true;
+    partition.done.tryComplete();
+    running--;
+    if (partition.buffer.isEmpty()) {
+      waiting--;
+    }
+    openPartitions();
+    drain();
+  }
+
+  private void handleFailure(Throwable failure) {
+    if (done) {
+      return;
+    }
+    done = true;
+    for (Partition partition : partitions) {
+      closeStream(partition);
+      partition.done.tryFail(failure);
+    }
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(failure);
+    }
+  }
+
+  private static void closeStream(Partition partition) {
+    RowStream<Row> stream = partition.stream;
+    if (stream != null && !partition.ended) {
+      stream.close();
+    }
+  }
+
+  private Row poll() {
+    if (sortColumn != null && waiting > 0) {
+      // the next row might come from a partition with no buffered row
+      return null;
+    }
+    Partition partition = ready.poll();
+    if (partition == null) {
+      return null;
+    }
+    Row row = partition.buffer.poll();
+    if (!partition.buffer.isEmpty()) {
+      ready.add(partition);
+    } else if (!partition.ended) {
+      waiting++;
+    }
+    if (partition.paused && partition.buffer.size() <= fetchSize / 2) {
+      partition.paused = false;
+      partition.stream.resume();
+    }
+    return row;
+  }
+
+  private void drain() {
+    if (emitting || !started) {
+      return;
+    }
+    emitting = true;
+    try {
+      while (!done && demand > 0L) {
+        Row row = poll();
+        if (row == null) {
+          break;
+        }
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        Handler<Row> h = handler;
+        if (h != null) {
+          h.handle(row);
+        }
+      }
+      if (!done && running == 0 && next == partitions.size() && ready.isEmpty()) {
+        done = true;
+        Handler<Void> h = endHandler;
+        if (h != null) {
+          h.handle(null);
+        }
+      }
+    } finally {
+      emitting = false;
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private int compare(Row r1, Row r2) {
+    Comparable v1 = (Comparable) r1.getValue(sortIndex);
+    Comparable v2 = (Comparable) r2.getValue(sortIndex);
+    int cmp;
+    if (v1 == null) {
+      cmp = v2 == null ? 0 : -1;
+    } else if (v2 == null) {
+      cmp = 1;
+    } else {
+      cmp = v1.compareTo(v2);
+    }
+    return descending ? -cmp : cmp;
+  }
+
+  private int sortIndex(Row row) {
+    int idx = row.getColumnIndex(sortColumn);
+    for (int i = 0; idx == -1 && i < row.size(); i++) {
+      if (sortColumn.equalsIgnoreCase(row.getColumnName(i))) {
+        idx = i;
+      }
+    }
+    if (idx == -1) {
+      throw new IllegalArgumentException("Sort column " + sortColumn + " is not part of the result");
+    }
+    return idx;
+  }
+}
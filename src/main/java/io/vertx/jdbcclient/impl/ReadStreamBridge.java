@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+
+/**
+ * A bounded pipe between a {@link ReadStream} and a blocking consumer running on a worker thread.
+ * <p>
+ * The stream is paused when {@code highWaterMark} items are pending and resumed once the consumer drained half of
+ * them, so memory usage does not depend on the size of the streamed content.
+ */
+public class ReadStreamBridge<T> {
+
+  private final ContextInternal context;
+  private final ReadStream<T> stream;
+  private final int highWaterMark;
+  private final ArrayDeque<T> pending = new ArrayDeque<>();
+  private boolean started;
+  private boolean paused;
+  private boolean ended;
+  private Throwable failure;
+
+  public ReadStreamBridge(ContextInternal context, ReadStream<T> stream, int highWaterMark) {
+    this.context = context;
+    this.stream = stream;
+    this.highWaterMark = highWaterMark;
+  }
+
+  private void onContext(Runnable action) {
+    if (context != null) {
+      context.runOnContext(v -> action.run());
+    } else {
+      action.run();
+    }
+  }
+
+  private void start() {
+    started = true;
+    onContext(() -> {
+      stream.exceptionHandler(this::handleFailure);
+      stream.endHandler(v -> handleEnd());
+      stream.handler(this::handleItem);
+      stream.resume();
+    });
+  }
+
+  private void handleItem(T item) {
+    boolean pause;
+    synchronized (this) {
+      if (ended) {
+        return;
+      }
+      pending.add(item);
+      pause = !paused && pending.size() >= highWaterMark;
+      if (pause) {
+        paused = true;
+      }
+      notifyAll();
+    }
+    if (pause) {
+      stream.pause();
+    }
+  }
+
+  private synchronized void handleEnd() {
+    ended = true;
+    notifyAll();
+  }
+
+  private synchronized void handleFailure(Throwable cause) {
+    if (!ended) {
+      failure = cause;
+      ended = true;
+      notifyAll();
+    }
+  }
+
+  /**
+   * Take the next item, blocking until it is available, must be called from a worker thread.
+   *
+   * @return the next item or {@code null} when the stream has ended
+   */
+  public T next() throws IOException {
+    T item;
+    boolean resume = false;
+    synchronized (this) {
+      if (!started) {
+        start();
+      }
+      while (pending.isEmpty() && !ended) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
+        }
+      }
+      item = pending.poll();
+      if (item == null) {
+        if (failure != null) {
+          throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+        }
+        return null;
+      }
+      if (paused && pending.size() <= highWaterMark / 2) {
+        paused = false;
+        resume = true;
+      }
+    }
+    if (resume) {
+      onContext(stream::resume);
+    }
+    return item;
+  }
+
+  /**
+   * Stop consuming the stream, pending and further items are discarded. A stream paused by the bridge is resumed so
+   * that its source is not left paused.
+   */
+  public void close() {
+    boolean resume;
+    synchronized (this) {
+      if (!started || (ended && pending.isEmpty())) {
+        ended = true;
+        return;
+      }
+      ended = true;
+      resume = paused;
+      paused = false;
+      pending.clear();
+      notifyAll();
+    }
+    onContext(() -> {
+      stream.handler(null);
+      stream.endHandler(null);
+      stream.exceptionHandler(null);
+      if (resume) {
+        stream.resume();
+      }
+    });
+  }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.jdbcclient.impl.actions.SqlClassifier;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.*;
+
+/**
+ * A pool wide cache of decoded query results.
+ * <p>
+ * Eviction follows the W-TinyLFU design: new entries enter a small LRU window, an entry evicted from the window is only
+ * admitted in the main LRU space when it has been requested more often than the main space victim, according to a
+ * count-min sketch of the recent request frequencies. This keeps one-off queries from flushing the hot entries.
+ * <p>
+ * Entries expire after their TTL and are invalidated when a statement executed through the pool modifies one of the
+ * tables they declare. A statement whose modified table is unknown, such as a DDL statement or a procedure call,
+ * invalidates all the entries. The statements are only inspected once a query of the pool has asked for caching.
+ * <p>
+ * The cached rows are read-only copies of the decoded rows, shared by all the callers the result is replayed to.
+ */
+public class ResultCache {
+
+  /**
+   * The table returned by {@link #invalidate} when the statement may modify any table.
+   */
+  public static final String ALL_TABLES = "*";
+
+  public static final class Key {
+
+    private final String sql;
+    private final List<Object> params;
+    private final int hash;
+
+    public Key(String sql, Tuple tuple) {
+      List<Object> params = new ArrayList<>(tuple.size());
+      for (int i = 0; i < tuple.size(); i++) {
+        params.add(tuple.getValue(i));
+      }
+      this.sql = sql;
+      this.params = params;
+      this.hash = 31 * sql.hashCode() + params.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) obj;
+      return hash == that.hash && sql.equals(that.sql) && params.equals(that.params);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  public static final class Entry {
+
+    final int update;
+    final JDBCRowDesc desc;
+    final List<Row> rows;
+    final Set<String> tables;
+    final long expiresAt;
+
+    Entry(int update, JDBCRowDesc desc, List<Row> rows, Set<String> tables, long expiresAt) {
+      this.update = update;
+      this.desc = desc;
+      this.rows = rows;
+      this.tables = tables;
+      this.expiresAt = expiresAt;
+    }
+
+    public int update() {
+      return update;
+    }
+
+    public JDBCRowDesc desc() {
+      return desc;
+    }
+
+    public List<Row> rows() {
+      return rows;
+    }
+  }
+
+  private final int windowSize;
+  private final int mainSize;
+  private final LinkedHashMap<Key, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<Key, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, Set<Key>> byTable = new HashMap<>();
+  private final FrequencySketch sketch;
+  // incremented on each invalidation, a result read before an invalidation is not cached
+  private long invalidations;
+  // set by the first query asking for caching, until then the statements are not inspected
+  private volatile boolean used;
+
+  public ResultCache(int maxSize) {
+    this.windowSize = Math.max(1, maxSize / 100);
+    this.mainSize = Math.max(1, maxSize - windowSize);
+    this.sketch = new FrequencySketch(maxSize);
+  }
+
+  /**
+   * @return the entry for the key or {@code null} when absent or expired
+   */
+  public synchronized Entry get(Key key, long now) {
+    used = true;
+    sketch.increment(key.hashCode());
+    Entry entry = window.get(key);
+    if (entry == null) {
+      entry = main.get(key);
+    }
+    if (entry != null && entry.expiresAt <= now) {
+      remove(key);
+      return null;
+    }
+    return entry;
+  }
+
+  /**
+   * @return a stamp to pass to {@link #put} once the result has been read
+   */
+  public synchronized long stamp() {
+    used = true;
+    return invalidations;
+  }
+
+  /**
+   * Store a result read from the database, unless an invalidation happened since {@code stamp} was obtained.
+   */
+  public synchronized void put(Key key, long stamp, int update, JDBCRowDesc desc, List<Row> rows, List<String> tables, long expiresAt) {
+    if (stamp != invalidations) {
+      return;
+    }
+    remove(key);
+    Set<String> normalized = new HashSet<>();
+    if (tables != null) {
+      for (String table : tables) {
+        normalized.add(normalize(table));
+      }
+    }
+    List<Row> copies = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      copies.add(new CachedRow(desc, row));
+    }
+    Entry entry = new Entry(update, desc, Collections.unmodifiableList(copies), normalized, expiresAt);
+    for (String table : normalized) {
+      byTable.computeIfAbsent(table, t -> new HashSet<>()).add(key);
+    }
+    window.put(key, entry);
+    if (window.size() > windowSize) {
+      Map.Entry<Key, Entry> candidate = eldest(window);
+      window.remove(candidate.getKey());
+      admit(candidate.getKey(), candidate.getValue());
+    }
+  }
+
+  private void admit(Key key, Entry entry) {
+    if (main.size() < mainSize) {
+      main.put(key, entry);
+      return;
+    }
+    Map.Entry<Key, Entry> victim = eldest(main);
+    if (sketch.frequency(key.hashCode()) > sketch.frequency(victim.getKey().hashCode())) {
+      main.remove(victim.getKey());
+      unindex(victim.getKey(), victim.getValue());
+      main.put(key, entry);
+    } else {
+      unindex(key, entry);
+    }
+  }
+
+  private static Map.Entry<Key, Entry> eldest(LinkedHashMap<Key, Entry> map) {
+    return map.entrySet().iterator().next();
+  }
+
+  private void remove(Key key) {
+    Entry entry = window.remove(key);
+    if (entry == null) {
+      entry = main.remove(key);
+    }
+    if (entry != null) {
+      unindex(key, entry);
+    }
+  }
+
+  private void unindex(Key key, Entry entry) {
+    for (String table : entry.tables) {
+      Set<Key> keys = byTable.get(table);
+      if (keys != null) {
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          byTable.remove(table);
+        }
+      }
+    }
+  }
+
+  /**
+   * Invalidate the entries depending on the table modified by the statement, if any.
+   *
+   * @param transactional whether the statement runs in a transaction, the modified table is then returned even when
+   *                      nothing is cached yet so that it can be invalidated again when the transaction ends
+   * @return the modified table, {@link #ALL_TABLES} when it is unknown or {@code null} when the statement is a query
+   */
+  public String invalidate(String sql, boolean transactional) {
+    if (!used && !transactional) {
+      // nothing can be cached yet, a result read after this statement is not stale
+      return null;
+    }
+    String table = modifiedTable(sql);
+    if (table != null) {
+      invalidateTable(table);
+    }
+    return table;
+  }
+
+  /**
+   * Invalidate the entries depending on the table, or all the entries for {@link #ALL_TABLES}.
+   */
+  public synchronized void invalidateTable(String table) {
+    invalidations++;
+    if (ALL_TABLES.equals(table)) {
+      window.clear();
+      main.clear();
+      byTable.clear();
+      return;
+    }
+    Set<Key> keys = byTable.remove(table);
+    if (keys != null) {
+      for (Key key : new ArrayList<>(keys)) {
+        remove(key);
+      }
+    }
+  }
+
+  static String modifiedTable(String sql) {
+    if (SqlClassifier.classify(sql) == SqlClassifier.Kind.QUERY) {
+      return null;
+    }
+    String table = SqlClassifier.modifiedTable(sql);
+    return table != null ? normalize(table) : ALL_TABLES;
+  }
+
+  /**
+   * Normalize a table name: unquoted, lower case and without schema.
+   */
+  static String normalize(String table) {
+    String name = table;
+    int idx = name.lastIndexOf('.');
+    if (idx >= 0) {
+      name = name.substring(idx + 1);
+    }
+    StringBuilder sb = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c != '"' && c != '`' && c != '[' && c != ']') {
+        sb.append(c);
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * A read-only copy of a row, lazily decoded values are decoded when the copy is made.
+   */
+  private static final class CachedRow extends JDBCRow {
+
+    CachedRow(JDBCRowDesc desc, Row row) {
+      super(desc);
+      for (int i = 0; i < row.size(); i++) {
+        super.addValue(row.getValue(i));
+      }
+    }
+
+    @Override
+    public Tuple addValue(Object value) {
+      throw new UnsupportedOperationException("Cached rows are read-only");
+    }
+
+    @Override
+    public Tuple setValue(int pos, Object value) {
+      throw new UnsupportedOperationException("Cached rows are read-only");
+    }
+
+    @Override
+    public void clear() {
+      throw new UnsupportedOperationException("Cached rows are read-only");
+    }
+  }
+
+  /**
+   * A count-min sketch with 4 hash functions, counters are halved periodically so the frequencies reflect the recent
+   * history.
+   */
+  private static final class FrequencySketch {
+
+    private static final int[] SEEDS = { 0x97cb3127, 0xb1e2a3f5, 0x2c1b3c6d, 0x297a2d39 };
+
+    private final int[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maxSize) {
+      int size = Integer.highestOneBit(Math.max(16, maxSize) * 2 - 1) << 1;
+      this.table = new int[size];
+      this.mask = size - 1;
+      this.sampleSize = 10 * Math.max(16, maxSize);
+    }
+
+    private int index(int hash, int i) {
+      int h = (hash ^ SEEDS[i]) * 0x9e3779b9;
+      return (h ^ (h >>> 16)) & mask;
+    }
+
+    void increment(int hash) {
+      for (int i = 0; i < SEEDS.length; i++) {
+        int idx = index(hash, i);
+        if (table[idx] < 15) {
+          table[idx]++;
+        }
+      }
+      if (++additions >= sampleSize) {
+        for (int i = 0; i < table.length; i++) {
+          table[i] >>>= 1;
+        }
+        additions /= 2;
+      }
+    }
+
+    int frequency(int hash) {
+      int min = Integer.MAX_VALUE;
+      for (int i = 0; i < SEEDS.length; i++) {
+        min = Math.min(min, table[index(hash, i)]);
+      }
+      return min;
+    }
+  }
+}
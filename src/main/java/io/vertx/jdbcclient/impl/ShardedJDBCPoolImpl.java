@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.jdbcclient.ShardRouter;
+import io.vertx.jdbcclient.ShardedJDBCPool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class ShardedJDBCPoolImpl implements ShardedJDBCPool {
+
+  private final VertxInternal vertx;
+  private final List<Pool> shards;
+  private final ShardRouter router;
+
+  public ShardedJDBCPoolImpl(Vertx vertx, List<Pool> shards, ShardRouter router) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("At least one shard is required");
+    }
+    this.vertx = (VertxInternal) vertx;
+    this.shards = new ArrayList<>(shards);
+    this.router = router;
+  }
+
+  @Override
+  public int size() {
+    return shards.size();
+  }
+
+  @Override
+  public Pool shard(int index) {
+    return shards.get(index);
+  }
+
+  @Override
+  public Pool shardFor(Tuple params) {
+    int index = router.shard(params, shards.size());
+    if (index < 0 || index >= shards.size()) {
+      throw new IllegalStateException("Router returned an invalid shard index " + index);
+    }
+    return shards.get(index);
+  }
+
+  @Override
+  public <T> Future<T> withShard(Tuple key, Function<Pool, Future<T>> function) {
+    try {
+      return function.apply(shardFor(key));
+    } catch (Throwable t) {
+      return vertx.getOrCreateContext().failedFuture(t);
+    }
+  }
+
+  @Override
+  public Future<RowSet<Row>> execute(String sql, Tuple params) {
+    return withShard(params, pool -> pool.preparedQuery(sql).execute(params));
+  }
+
+  @Override
+  public Future<RowSet<Row>> executeAll(String sql, Tuple params) {
+    // the shards complete on their own contexts, the merged result completes on the caller context
+    ContextInternal context = vertx.getOrCreateContext();
+    PromiseInternal<RowSet<Row>> promise = context.promise();
+    List<Future<RowSet<Row>>> futures = new ArrayList<>(shards.size());
+    for (Pool shard : shards) {
+      futures.add(shard.preparedQuery(sql).execute(params));
+    }
+    Future.all(futures).<RowSet<Row>>map(cf -> {
+      List<RowSet<Row>> results = new ArrayList<>(futures.size());
+      for (int i = 0; i < futures.size(); i++) {
+        results.add(cf.resultAt(i));
+      }
+      return new MergedRowSet(results);
+    }).onComplete(promise);
+    return promise.future();
+  }
+
+  @Override
+  public Future<Void> close() {
+    ContextInternal context = vertx.getOrCreateContext();
+    PromiseInternal<Void> promise = context.promise();
+    List<Future<Void>> futures = new ArrayList<>(shards.size());
+    for (Pool shard : shards) {
+      futures.add(shard.close());
+    }
+    Future.join(futures).<Void>mapEmpty().onComplete(promise);
+    return promise.future();
+  }
+}
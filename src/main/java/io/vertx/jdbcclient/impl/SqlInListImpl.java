@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.SqlInList;
+import io.vertx.jdbcclient.impl.actions.SqlClassifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class SqlInListImpl implements SqlInList {
+
+  private final List<Object> values;
+
+  public SqlInListImpl(Collection<?> values) {
+    this.values = Collections.unmodifiableList(new ArrayList<>(values));
+  }
+
+  @Override
+  public List<Object> values() {
+    return values;
+  }
+
+  /**
+   * @param limit the maximum number of placeholders the list is padded to
+   * @return the number of placeholders the list expands to
+   */
+  public int placeholders(int limit) {
+    int size = values.size();
+    if (size >= limit) {
+      return Math.max(size, 1);
+    }
+    return Math.min(bucket(size), limit);
+  }
+
+  /**
+   * @return the value bound to the placeholder at {@code index} of the expansion
+   */
+  public Object value(int index) {
+    if (values.isEmpty()) {
+      return null;
+    }
+    return values.get(Math.min(index, values.size() - 1));
+  }
+
+  static int bucket(int size) {
+    if (size <= 1) {
+      return 1;
+    }
+    return Integer.highestOneBit(size - 1) << 1;
+  }
+
+  /**
+   * Rewrite the placeholders of a statement, the placeholder at index {@code i} (0-based) is replaced by
+   * {@code counts[i]} comma separated placeholders. Placeholders in string literals, quoted identifiers and comments
+   * are ignored.
+   * <p>
+   * Literals are delimited by their quote only, a quote escaped with a backslash (e.g. MySQL {@code 'it\'s'}) or a
+   * PostgreSQL dollar quoted literal ({@code $$...$$}) containing a {@code ?} is not recognized.
+   *
+   * @return the rewritten statement
+   */
+  public static String expand(String sql, int[] counts) {
+    StringBuilder sb = new StringBuilder(sql.length() + 16);
+    int placeholder = 0;
+    int len = sql.length();
+    for (int i = 0; i < len; i++) {
+      int next = SqlClassifier.skip(sql, i);
+      if (next > i) {
+        sb.append(sql, i, next);
+        i = next - 1;
+        continue;
+      }
+      char c = sql.charAt(i);
+      if (c == '?') {
+        int count = placeholder < counts.length ? counts[placeholder] : 1;
+        placeholder++;
+        sb.append('?');
+        for (int j = 1; j < count; j++) {
+          sb.append(", ?");
+        }
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj == this || obj instanceof SqlInListImpl && values.equals(((SqlInListImpl) obj).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return values.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "SqlInList" + values;
+  }
+}
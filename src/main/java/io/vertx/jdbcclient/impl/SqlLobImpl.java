@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.jdbcclient.SqlLob;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+public class SqlLobImpl implements SqlLob {
+
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  private final ConnectionImpl conn;
+  private final long lease;
+  private final Blob blob;
+  private final Clob clob;
+  private final long length;
+
+  public SqlLobImpl(ConnectionImpl conn, Blob blob) throws SQLException {
+    this.conn = conn;
+    this.lease = conn.lease();
+    this.blob = blob;
+    this.clob = null;
+    this.length = blob.length();
+  }
+
+  public SqlLobImpl(ConnectionImpl conn, Clob clob) throws SQLException {
+    this.conn = conn;
+    this.lease = conn.lease();
+    this.blob = null;
+    this.clob = clob;
+    this.length = clob.length();
+  }
+
+  @Override
+  public long length() {
+    return length;
+  }
+
+  @Override
+  public boolean isCharacter() {
+    return clob != null;
+  }
+
+  @Override
+  public ReadStream<Buffer> stream() {
+    return new LobStream();
+  }
+
+  @Override
+  public Future<Void> free() {
+    return conn.schedule(c -> {
+      checkLease();
+      if (blob != null) {
+        blob.free();
+      } else {
+        clob.free();
+      }
+      return null;
+    });
+  }
+
+  private void checkLease() throws SQLException {
+    if (conn.lease() != lease) {
+      throw new SQLException("LOB is not accessible anymore, the connection it was read from has been released");
+    }
+  }
+
+  /**
+   * Read a chunk of at most {@code len} units starting at {@code pos} (1-based), must be called on a worker thread.
+   */
+  private Chunk read(long pos, int len) throws SQLException {
+    checkLease();
+    if (blob != null) {
+      byte[] bytes = blob.getBytes(pos, len);
+      return new Chunk(Buffer.buffer(bytes), bytes.length);
+    }
+    String s = clob.getSubString(pos, len);
+    if (s.length() > 1 && pos - 1 + s.length() < length && Character.isHighSurrogate(s.charAt(s.length() - 1))) {
+      // do not split a surrogate pair across two chunks
+      s = s.substring(0, s.length() - 1);
+    }
+    return new Chunk(Buffer.buffer(s), s.length());
+  }
+
+  private static class Chunk {
+
+    final Buffer data;
+    final int units;
+
+    Chunk(Buffer data, int units) {
+      this.data = data;
+      this.units = units;
+    }
+  }
+
+  private class LobStream implements ReadStream<Buffer> {
+
+    private Handler<Buffer> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private long demand = Long.MAX_VALUE;
+    private long position = 1;
+    private boolean reading;
+    private boolean ended;
+
+    @Override
+    public synchronized ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+      synchronized (this) {
+        this.handler = handler;
+      }
+      if (handler != null) {
+        readIfNeeded();
+      }
+      return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> pause() {
+      demand = 0L;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+      if (amount < 0L) {
+        throw new IllegalArgumentException("Invalid fetch amount " + amount);
+      }
+      synchronized (this) {
+        demand += amount;
+        if (demand < 0L) {
+          demand = Long.MAX_VALUE;
+        }
+      }
+      readIfNeeded();
+      return this;
+    }
+
+    @Override
+    public synchronized ReadStream<Buffer> endHandler(Handler<Void> handler) {
+      endHandler = handler;
+      return this;
+    }
+
+    private void readIfNeeded() {
+      long pos;
+      int len;
+      synchronized (this) {
+        if (reading || ended || demand == 0L || handler == null) {
+          return;
+        }
+        if (position > length) {
+          ended = true;
+          pos = -1;
+          len = 0;
+        } else {
+          reading = true;
+          pos = position;
+          len = (int) Math.min(CHUNK_SIZE, length - position + 1);
+        }
+      }
+      if (pos == -1) {
+        handleEnd();
+        return;
+      }
+      conn.schedule(c -> read(pos, len)).onComplete(ar -> {
+        if (ar.succeeded()) {
+          handleChunk(ar.result());
+        } else {
+          handleFailure(ar.cause());
+        }
+      });
+    }
+
+    private void handleChunk(Chunk chunk) {
+      Handler<Buffer> h;
+      synchronized (this) {
+        reading = false;
+        if (chunk.units == 0) {
+          // the value is shorter than reported
+          position = length + 1;
+        } else {
+          position += chunk.units;
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+        }
+        h = handler;
+      }
+      if (h != null && chunk.units > 0) {
+        h.handle(chunk.data);
+      }
+      readIfNeeded();
+    }
+
+    private void handleEnd() {
+      Handler<Void> h;
+      synchronized (this) {
+        h = endHandler;
+      }
+      if (h != null) {
+        h.handle(null);
+      }
+    }
+
+    private void handleFailure(Throwable cause) {
+      Handler<Throwable> h;
+      synchronized (this) {
+        reading = false;
+        ended = true;
+        h = exceptionHandler;
+      }
+      if (h != null) {
+        h.handle(cause);
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.jdbcclient.SqlLobParam;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class SqlLobParamImpl implements SqlLobParam {
+
+  /**
+   * Maximum number of buffers held by the pipe between the stream and the driver.
+   */
+  static final int HIGH_WATER_MARK = 16;
+
+  private final ReadStream<Buffer> stream;
+  private final long length;
+  private final boolean character;
+  private final ContextInternal context;
+  private ReadStreamBridge<Buffer> bridge;
+
+  public SqlLobParamImpl(ReadStream<Buffer> stream, long length, boolean character) {
+    this.stream = stream;
+    this.length = length;
+    this.character = character;
+    this.context = (ContextInternal) Vertx.currentContext();
+  }
+
+  @Override
+  public boolean isCharacter() {
+    return character;
+  }
+
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Bind the content to the statement, must be called from the worker thread executing the statement.
+   *
+   * @param connectionContext the context of the connection, the stream is consumed on it when the parameter was not
+   *                          created on a context
+   */
+  public void bind(PreparedStatement ps, int idx, ContextInternal connectionContext) throws SQLException {
+    ContextInternal ctx = context != null ? context : connectionContext;
+    if (ctx == null) {
+      throw new SQLException("Streamed parameter " + idx + " requires a Vert.x context");
+    }
+    synchronized (this) {
+      if (bridge != null) {
+        throw new SQLException("Streamed parameter " + idx + " has already been consumed");
+      }
+      bridge = new ReadStreamBridge<>(ctx, stream, HIGH_WATER_MARK);
+    }
+    InputStream in = new BridgeInputStream(bridge);
+    if (character) {
+      InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+      if (length >= 0) {
+        ps.setCharacterStream(idx, reader, length);
+      } else {
+        ps.setCharacterStream(idx, reader);
+      }
+    } else {
+      if (length >= 0) {
+        ps.setBinaryStream(idx, in, length);
+      } else {
+        ps.setBinaryStream(idx, in);
+      }
+    }
+  }
+
+  /**
+   * Stop consuming the stream, called once the statement has been executed.
+   */
+  public synchronized void close() {
+    if (bridge != null) {
+      bridge.close();
+    }
+  }
+
+  private static class BridgeInputStream extends InputStream {
+
+    private final ReadStreamBridge<Buffer> bridge;
+    private Buffer current;
+    private int offset;
+    private boolean ended;
+
+    BridgeInputStream(ReadStreamBridge<Buffer> bridge) {
+      this.bridge = bridge;
+    }
+
+    private boolean fill() throws IOException {
+      while (!ended && (current == null || offset == current.length())) {
+        current = bridge.next();
+        offset = 0;
+        if (current == null) {
+          ended = true;
+        }
+      }
+      return !ended;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!fill()) {
+        return -1;
+      }
+      return current.getByte(offset++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+      int n = Math.min(len, current.length() - offset);
+      current.getBytes(offset, offset + n, b, off);
+      offset += n;
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return current == null ? 0 : current.length() - offset;
+    }
+
+    @Override
+    public void close() {
+      ended = true;
+      current = null;
+      bridge.close();
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.streams.WriteStream;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes buffers produced on a worker thread to a {@link WriteStream}.
+ * <p>
+ * A single write is in flight at a time: when the write queue of the stream is full the next write blocks the worker
+ * until the stream drains, so the producer is throttled to the pace of the destination. The worker stops waiting when
+ * the stream fails or does not drain within the write timeout.
+ */
+public class WriteStreamBridge {
+
+  private final ContextInternal context;
+  private final WriteStream<Buffer> stream;
+  private final long writeTimeout;
+  private boolean writable = true;
+  private Throwable failure;
+  private volatile Future<Void> lastWrite;
+
+  public WriteStreamBridge(ContextInternal context, WriteStream<Buffer> stream, long writeTimeout) {
+    this.context = context;
+    this.stream = stream;
+    this.writeTimeout = writeTimeout;
+    this.lastWrite = context.succeededFuture();
+    // e.g. the connection of an HTTP response is closed, a pending drain never happens
+    context.runOnContext(v -> stream.exceptionHandler(this::handleFailure));
+  }
+
+  /**
+   * Write a buffer, blocking until the previous write has been accepted by the stream, must be called from a worker
+   * thread.
+   */
+  public void write(Buffer buffer) throws IOException {
+    awaitWritable();
+    synchronized (this) {
+      writable = false;
+    }
+    context.runOnContext(v -> {
+      Future<Void> fut = stream.write(buffer);
+      lastWrite = fut;
+      fut.onFailure(this::handleFailure);
+      if (stream.writeQueueFull()) {
+        stream.drainHandler(d -> {
+          stream.drainHandler(null);
+          release();
+        });
+      } else {
+        release();
+      }
+    });
+  }
+
+  /**
+   * Block until the last write has been accepted by the stream, must be called from a worker thread.
+   */
+  public synchronized void awaitWritable() throws IOException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(writeTimeout);
+    while (!writable && failure == null) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0L) {
+        failure = new IOException("The destination did not drain within " + writeTimeout + "ms");
+        break;
+      }
+      try {
+        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+    }
+    if (failure != null) {
+      throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+    }
+  }
+
+  /**
+   * @return the completion of the last write, valid after {@link #awaitWritable()} returned
+   */
+  public Future<Void> lastWrite() {
+    return lastWrite;
+  }
+
+  private synchronized void release() {
+    writable = true;
+    notifyAll();
+  }
+
+  private synchronized void handleFailure(Throwable cause) {
+    if (failure == null) {
+      failure = cause;
+    }
+    notifyAll();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl.actions;
+
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded table of the column descriptors, labels and type names of the result sets of a pool, so the rows kept
+ * in memory (e.g. by the result cache) share the same instances instead of duplicating them per result set.
+ * <p>
+ * When a table is full, new values are not interned anymore, the existing entries are kept.
+ */
+public class ColumnDescriptorInterner {
+
+  public static final int DEFAULT_MAX_SIZE = 4096;
+
+  private final int maxSize;
+  private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Key, JDBCColumnDescriptor> descriptors = new ConcurrentHashMap<>();
+
+  public ColumnDescriptorInterner() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public ColumnDescriptorInterner(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public String intern(String s) {
+    if (s == null) {
+      return null;
+    }
+    String interned = strings.get(s);
+    if (interned != null) {
+      return interned;
+    }
+    if (strings.size() >= maxSize) {
+      return s;
+    }
+    interned = strings.putIfAbsent(s, s);
+    return interned != null ? interned : s;
+  }
+
+  /**
+   * Same as {@link JDBCColumnDescriptorProvider#fromResultMetaData(ResultSetMetaData)} with shared descriptors.
+   */
+  public JDBCColumnDescriptorProvider provider(ResultSetMetaData metaData) {
+    return col -> descriptor(
+      JDBCPropertyAccessor.create(() -> metaData.getColumnLabel(col)).get(),
+      JDBCPropertyAccessor.jdbcType(() -> metaData.getColumnType(col)).get(),
+      JDBCPropertyAccessor.create(() -> metaData.getColumnTypeName(col)).get(),
+      JDBCPropertyAccessor.create(() -> metaData.getColumnClassName(col)).get());
+  }
+
+  JDBCColumnDescriptor descriptor(String label, int type, String typeName, String className) throws SQLException {
+    Key key = new Key(label, type, typeName, className);
+    JDBCColumnDescriptor descriptor = descriptors.get(key);
+    if (descriptor != null) {
+      return descriptor;
+    }
+    // shared descriptors are immutable, the decode hints are learnt per result set
+    descriptor = JDBCColumnDescriptor.create(() -> intern(label), () -> type, () -> intern(typeName), () -> className).immutable();
+    if (descriptors.size() >= maxSize) {
+      return descriptor;
+    }
+    JDBCColumnDescriptor existing = descriptors.putIfAbsent(key, descriptor);
+    return existing != null ? existing : descriptor;
+  }
+
+  private static final class Key {
+
+    private final String label;
+    private final int type;
+    private final String typeName;
+    private final String className;
+    private final int hash;
+
+    Key(String label, int type, String typeName, String className) {
+      this.label = label;
+      this.type = type;
+      this.typeName = typeName;
+      this.className = className;
+      this.hash = Objects.hash(label, type, typeName, className);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) obj;
+      return hash == that.hash && type == that.type && Objects.equals(label, that.label) &&
+        Objects.equals(typeName, that.typeName) && Objects.equals(className, that.className);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
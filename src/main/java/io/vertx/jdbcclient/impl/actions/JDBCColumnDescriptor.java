@@ -20,10 +20,15 @@ public class JDBCColumnDescriptor implements ColumnDescriptor {
 
   private final String columnLabel;
   private final JDBCTypeWrapper jdbcTypeWrapper;
+  // false for the descriptors shared by the result sets of a pool, they never change
+  private final boolean learnsHints;
+  // access strategies learnt by the decoder for the values of this column
+  private int decodeHints;
 
-  private JDBCColumnDescriptor(String columnLabel, JDBCTypeWrapper jdbcTypeWrapper) {
+  private JDBCColumnDescriptor(String columnLabel, JDBCTypeWrapper jdbcTypeWrapper, boolean learnsHints) {
     this.columnLabel = columnLabel;
     this.jdbcTypeWrapper = jdbcTypeWrapper;
+    this.learnsHints = learnsHints;
   }
 
   @Override
@@ -59,6 +64,40 @@ public class JDBCColumnDescriptor implements ColumnDescriptor {
     return this.jdbcTypeWrapper;
   }
 
+  /**
+   * @return the access strategies learnt by the decoder for this column
+   */
+  public int decodeHints() {
+    return decodeHints;
+  }
+
+  /**
+   * Remember an access strategy for the next values of this column. The descriptors used to decode a result set are
+   * copies owned by the thread decoding it, see {@link JDBCRowDesc#columnProvider()}, the hints are ignored by the
+   * immutable descriptors shared by the result sets of a pool.
+   *
+   * @param hint the decoder specific hint
+   */
+  public void addDecodeHint(int hint) {
+    if (learnsHints) {
+      decodeHints |= hint;
+    }
+  }
+
+  /**
+   * @return a descriptor of the same column with its own decode hints, initially none
+   */
+  public JDBCColumnDescriptor copy() {
+    return new JDBCColumnDescriptor(columnLabel, jdbcTypeWrapper, true);
+  }
+
+  /**
+   * @return a descriptor of the same column that can be shared, it ignores decode hints
+   */
+  JDBCColumnDescriptor immutable() {
+    return learnsHints ? new JDBCColumnDescriptor(columnLabel, jdbcTypeWrapper, false) : this;
+  }
+
   @Override
   public String toString() {
     return "JDBCColumnDescriptor[columnName=(" + columnLabel + "), jdbcTypeWrapper=(" + jdbcTypeWrapper + ")]";
@@ -69,11 +108,11 @@ public class JDBCColumnDescriptor implements ColumnDescriptor {
                                             JDBCPropertyAccessor<String> vendorTypeName,
                                             JDBCPropertyAccessor<String> vendorTypeClassName) throws SQLException {
     return new JDBCColumnDescriptor(columnLabel.get(), JDBCTypeWrapper.of(vendorTypeNumber.get(), vendorTypeName.get(),
-      vendorTypeClassName.get()));
+      vendorTypeClassName.get()), true);
   }
 
   public static JDBCColumnDescriptor wrap(JDBCType jdbcType) {
-    return new JDBCColumnDescriptor(null, JDBCTypeWrapper.of(jdbcType));
+    return new JDBCColumnDescriptor(null, JDBCTypeWrapper.of(jdbcType), true);
   }
 
 }
@@ -39,7 +39,7 @@ public class JDBCPrepareStatementAction extends AbstractJDBCAction<io.vertx.sqlc
   @Override
   public io.vertx.sqlclient.internal.PreparedStatement execute(Connection conn) throws SQLException {
 
-    boolean autoGeneratedKeys = isAutoGeneratedKeys();
+    boolean autoGeneratedKeys = isAutoGeneratedKeys() && SqlClassifier.mayGenerateKeys(sql);
     JsonArray autoGeneratedKeysIndexes = getAutoGeneratedKeysIndexes();
     boolean autoGeneratedIndexes = autoGeneratedKeysIndexes != null && !autoGeneratedKeysIndexes.isEmpty();
 
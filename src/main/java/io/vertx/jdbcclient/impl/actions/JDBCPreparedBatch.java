@@ -19,6 +19,9 @@ package io.vertx.jdbcclient.impl.actions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.jdbcclient.SqlOptions;
 import io.vertx.jdbcclient.SqlOutParam;
+import io.vertx.jdbcclient.impl.SqlInListImpl;
+import io.vertx.jdbcclient.impl.SqlLobParamImpl;
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
@@ -48,15 +51,18 @@ public class JDBCPreparedBatch<C, R> extends JDBCQueryAction<C, R> {
 
   @Override
   public JDBCResponse<R> execute(Connection conn) throws SQLException {
-    boolean returnAutoGeneratedKeys = returnAutoGeneratedKeys(conn);
+    boolean returnAutoGeneratedKeys = returnAutoGeneratedKeys(conn, query.sql());
 
     try (PreparedStatement ps = prepare(conn, returnAutoGeneratedKeys)) {
       applyStatementOptions(ps);
+      JDBCColumnDescriptorProvider provider = parameterProvider(ps);
       for (Tuple params : listParams) {
-        fillStatement(ps, conn, params);
+        fillStatement(ps, conn, provider, params);
         ps.addBatch();
       }
       return decode(ps, ps.executeBatch(), returnAutoGeneratedKeys);
+    } finally {
+      closeStreams();
     }
   }
 
@@ -96,16 +102,34 @@ public class JDBCPreparedBatch<C, R> extends JDBCQueryAction<C, R> {
     }
   }
 
-  private void fillStatement(PreparedStatement ps, Connection conn, Tuple params) throws SQLException {
+  /**
+   * The parameter metadata is shared by all the rows of the batch and only fetched when a value requires it, as it may
+   * cost a round trip to the database.
+   */
+  private static JDBCColumnDescriptorProvider parameterProvider(PreparedStatement ps) {
+    JDBCColumnDescriptorProvider[] provider = new JDBCColumnDescriptorProvider[1];
+    return col -> {
+      if (provider[0] == null) {
+        provider[0] = JDBCStatementHelper.memoize(JDBCColumnDescriptorProvider.fromParameterMetaData(new CachedParameterMetaData(ps)));
+      }
+      return provider[0].apply(col);
+    };
+  }
+
+  private void fillStatement(PreparedStatement ps, Connection conn, JDBCColumnDescriptorProvider provider, Tuple params) throws SQLException {
 
     for (int i = 0; i < params.size(); i++) {
-      // we must convert types (to comply to JDBC)
-      Object value = adaptType(conn, params.getValue(i));
+      Object value = params.getValue(i);
 
       if (value instanceof SqlOutParam) {
         throw new SQLException("{out} parameters are not supported in batch mode");
+      } else if (value instanceof SqlInListImpl) {
+        throw new SQLException("IN list parameters are not supported in batch mode");
+      } else if (value instanceof SqlLobParamImpl) {
+        bindStream(ps, i + 1, (SqlLobParamImpl) value);
       } else {
-        ps.setObject(i + 1, value);
+        // we must convert types (to comply to JDBC)
+        bind(ps, i + 1, conn, provider, value);
       }
     }
   }
@@ -19,6 +19,8 @@ package io.vertx.jdbcclient.impl.actions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.jdbcclient.SqlOptions;
 import io.vertx.jdbcclient.SqlOutParam;
+import io.vertx.jdbcclient.impl.SqlInListImpl;
+import io.vertx.jdbcclient.impl.SqlLobParamImpl;
 import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.Row;
@@ -26,6 +28,7 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.spi.protocol.ExtendedQueryCommand;
 
 import java.sql.*;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collector;
 
@@ -37,6 +40,8 @@ public class JDBCPreparedQuery<C, R> extends JDBCQueryAction<C, R> {
   private final ExtendedQueryCommand<R> query;
   private final Tuple params = Tuple.tuple();
   private final CallableOutParams outParams = CallableOutParams.create();
+  // the statement with the IN list parameters expanded
+  private String sql;
 
   public JDBCPreparedQuery(JDBCStatementHelper helper, SqlOptions options, PrepareOptions prepareOptions, ExtendedQueryCommand<R> query, Collector<Row, C, R> collector, Tuple params) {
     super(helper, options, prepareOptions, collector);
@@ -48,19 +53,19 @@ public class JDBCPreparedQuery<C, R> extends JDBCQueryAction<C, R> {
   public JDBCResponse<R> execute(Connection conn) throws SQLException {
     // if there are registered output parameters we need to disable the auto generates key
     // extraction as it will interfere with the expectations on some jdbc drivers (such as MSSQL)
-    boolean returnAutoGeneratedKeys = outParams.size() == 0 && returnAutoGeneratedKeys(conn);
+    boolean returnAutoGeneratedKeys = outParams.size() == 0 && returnAutoGeneratedKeys(conn, query.sql());
 
     try (PreparedStatement ps = prepare(conn, returnAutoGeneratedKeys)) {
       applyStatementOptions(ps);
       fillStatement(ps, conn);
       return decode(ps, ps.execute(), returnAutoGeneratedKeys, outParams);
+    } finally {
+      closeStreams();
     }
   }
 
   private PreparedStatement prepare(Connection conn, boolean returnAutoGeneratedKeys) throws SQLException {
 
-    final String sql = query.sql();
-
     if (!outParams.isEmpty()) {
       return conn.prepareCall(sql);
     } else {
@@ -99,19 +104,34 @@ public class JDBCPreparedQuery<C, R> extends JDBCQueryAction<C, R> {
   }
 
   private void normalizeParams(Tuple tuple) {
+    sql = query.sql();
     if (tuple == null) {
       return;
     }
+    int[] placeholders = null;
     for (int i = 0; i < tuple.size(); i++) {
       final Object param = tuple.getValue(i);
       if (param instanceof SqlOutParam) {
         final SqlOutParam out = (SqlOutParam) param;
-        outParams.put(i + 1, out.type());
+        outParams.put(params.size() + 1, out.type());
         params.addValue(out.in() ? out.value() : out);
+      } else if (param instanceof SqlInListImpl) {
+        SqlInListImpl list = (SqlInListImpl) param;
+        if (placeholders == null) {
+          placeholders = new int[tuple.size()];
+          Arrays.fill(placeholders, 1);
+        }
+        placeholders[i] = list.placeholders(options != null ? options.getInListPaddingLimit() : Integer.MAX_VALUE);
+        for (int j = 0; j < placeholders[i]; j++) {
+          params.addValue(list.value(j));
+        }
       } else {
         params.addValue(param);
       }
     }
+    if (placeholders != null) {
+      sql = SqlInListImpl.expand(sql, placeholders);
+    }
   }
 
   private void fillStatement(PreparedStatement ps, Connection conn) throws SQLException {
@@ -125,13 +145,17 @@ public class JDBCPreparedQuery<C, R> extends JDBCQueryAction<C, R> {
       }
     }
     ParameterMetaData md = new CachedParameterMetaData(ps).putOutParams(outParams);
-    JDBCColumnDescriptorProvider provider = JDBCColumnDescriptorProvider.fromParameterMetaData(md);
+    JDBCColumnDescriptorProvider provider = JDBCStatementHelper.memoize(JDBCColumnDescriptorProvider.fromParameterMetaData(md));
     for (int idx = 1; idx <= params.size(); idx++) {
       Object value = params.getValue(idx - 1);
       if (value instanceof SqlOutParam) {
         continue;
       }
-      ps.setObject(idx, adaptType(conn, helper.getEncoder().encode(params, idx, provider)));
+      if (value instanceof SqlLobParamImpl) {
+        bindStream(ps, idx, (SqlLobParamImpl) value);
+        continue;
+      }
+      bind(ps, idx, conn, provider, helper.getEncoder().encode(params, idx, provider));
     }
   }
 }
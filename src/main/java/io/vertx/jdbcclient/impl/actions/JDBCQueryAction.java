@@ -11,21 +11,27 @@
 
 package io.vertx.jdbcclient.impl.actions;
 
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.jdbcclient.SqlOptions;
+import io.vertx.jdbcclient.impl.ConnectionImpl;
+import io.vertx.jdbcclient.impl.GeneratedKeys;
 import io.vertx.jdbcclient.impl.JDBCRow;
+import io.vertx.jdbcclient.impl.LazyRow;
+import io.vertx.jdbcclient.impl.OffHeapRow;
+import io.vertx.jdbcclient.impl.OffHeapRowBuffer;
+import io.vertx.jdbcclient.impl.SqlLobImpl;
+import io.vertx.jdbcclient.impl.SqlLobParamImpl;
 import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
 import io.vertx.jdbcclient.spi.JDBCDecoder;
+import io.vertx.jdbcclient.spi.JDBCDecoderImpl;
 import io.vertx.sqlclient.PrepareOptions;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.desc.ColumnDescriptor;
 
 import java.sql.*;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.stream.Collector;
 
@@ -37,6 +43,15 @@ public abstract class JDBCQueryAction<C, R> extends AbstractJDBCAction<JDBCRespo
   private static final Logger log = LoggerFactory.getLogger(JDBCQueryAction.class);
 
   private final Collector<Row, C, R> collector;
+  private ConnectionImpl connection;
+  private List<SqlLobParamImpl> streamed;
+  // the arrays created to bind array parameters, freed once the statement is executed
+  private List<java.sql.Array> arrays;
+  // decoded rows kept for the result cache
+  private boolean capture;
+  private boolean uncacheable;
+  private List<Row> captured;
+  private JDBCRowDesc capturedDesc;
 
   public JDBCQueryAction(JDBCStatementHelper helper, SqlOptions options, Collector<Row, C, R> collector) {
     super(helper, options);
@@ -48,6 +63,32 @@ public abstract class JDBCQueryAction<C, R> extends AbstractJDBCAction<JDBCRespo
     this.collector = collector;
   }
 
+  /**
+   * Set the connection executing this action, values bound to the connection (streamed LOBs) require it.
+   */
+  public void setConnection(ConnectionImpl connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * Keep the decoded rows so the result can be cached, see {@link #capturedRows()}.
+   */
+  public void captureRows() {
+    this.capture = true;
+  }
+
+  /**
+   * @return the decoded rows or {@code null} when the result cannot be cached (several result sets, output parameters,
+   * streamed LOBs, ...)
+   */
+  public List<Row> capturedRows() {
+    return uncacheable ? null : captured;
+  }
+
+  public JDBCRowDesc capturedDesc() {
+    return capturedDesc;
+  }
+
   protected JDBCResponse<R> decode(Statement statement, boolean returnedResultSet, boolean returnedKeys,
                                    CallableOutParams outParams) throws SQLException {
 
@@ -76,6 +117,7 @@ public abstract class JDBCQueryAction<C, R> extends AbstractJDBCAction<JDBCRespo
     }
 
     if (!outParams.isEmpty()) {
+      uncacheable = true;
       decodeOutput((CallableStatement) statement, outParams, response);
     }
 
@@ -111,31 +153,149 @@ public abstract class JDBCQueryAction<C, R> extends AbstractJDBCAction<JDBCRespo
     BiConsumer<C, Row> accumulator = collector.accumulator();
 
     ResultSetMetaData metaData = rs.getMetaData();
-    JDBCColumnDescriptorProvider provider = JDBCColumnDescriptorProvider.fromResultMetaData(metaData);
-    JDBCRowDesc desc = new JDBCRowDesc(provider, metaData.getColumnCount());
-
+    JDBCRowDesc desc = new JDBCRowDesc(helper.getInterner().provider(metaData), metaData.getColumnCount());
+    // the decoder learns per column descriptor how to read the values
+    JDBCColumnDescriptorProvider provider = desc.columnProvider();
+
+    boolean[] lobs = lobColumns(desc);
+    // off-heap rows can be released explicitly, they are never cached
+    boolean offHeapRows = options != null && options.isOffHeapRows();
+    OffHeapRowBuffer offHeap = null;
+    boolean[] deferred = offHeapRows ? null : lazyColumns(desc, lobs);
+    List<Row> rows = null;
+    if (capture) {
+      if (captured != null || lobs != null || offHeapRows) {
+        uncacheable = true;
+      } else {
+        rows = captured = new ArrayList<>();
+        capturedDesc = desc;
+      }
+    }
     C container = collector.supplier().get();
     int size = 0;
-    while (rs.next()) {
-      size++;
-      Row row = new JDBCRow(desc);
-      for (int i = 1; i <= desc.columnDescriptors().size(); i++) {
-        row.addValue(helper.getDecoder().parse(rs, i, provider));
+    int cols = desc.columnDescriptors().size();
+    try {
+      while (rs.next()) {
+        size++;
+        Row row;
+        if (offHeapRows) {
+          if (offHeap == null) {
+            offHeap = new OffHeapRowBuffer();
+          }
+          int offset = offHeap.startRow(cols);
+          for (int i = 1; i <= cols; i++) {
+            offHeap.append(lobs != null && lobs[i - 1] ? decodeLob(rs, i) : helper.getDecoder().parse(rs, i, provider));
+          }
+          row = new OffHeapRow(desc, offHeap, offset);
+        } else if (deferred != null) {
+          LazyRow lazy = new LazyRow(desc, helper.getDecoder());
+          for (int i = 1; i <= cols; i++) {
+            if (deferred[i - 1]) {
+              Object raw = rs.getObject(i);
+              if (raw == null || LazyRow.isDeferrable(raw)) {
+                lazy.addRaw(raw);
+                continue;
+              }
+              // a value of a driver specific class, the decoder needs the result set to read it
+            }
+            if (lobs != null && lobs[i - 1]) {
+              lazy.addValue(decodeLob(rs, i));
+            } else {
+              lazy.addValue(helper.getDecoder().parse(rs, i, provider));
+            }
+          }
+          row = lazy;
+        } else {
+          row = new JDBCRow(desc);
+          for (int i = 1; i <= cols; i++) {
+            if (lobs != null && lobs[i - 1]) {
+              row.addValue(decodeLob(rs, i));
+            } else {
+              row.addValue(helper.getDecoder().parse(rs, i, provider));
+            }
+          }
+        }
+        if (rows != null) {
+          rows.add(row);
+        }
+        accumulator.accept(container, row);
       }
-      accumulator.accept(container, row);
+    } catch (SQLException | RuntimeException e) {
+      if (offHeap != null) {
+        offHeap.release();
+      }
+      throw e;
     }
 
     response.push(collector.finisher().apply(container), desc, size);
   }
 
+  /**
+   * @return the columns that may be streamed instead of being read eagerly or {@code null} when streaming is disabled
+   */
+  private boolean[] lobColumns(JDBCRowDesc desc) {
+    if (connection == null || options == null || options.getLobInlineThreshold() < 0) {
+      return null;
+    }
+    boolean[] lobs = null;
+    for (int i = 0; i < desc.columnDescriptors().size(); i++) {
+      JDBCType type = desc.columnDescriptors().get(i).jdbcType();
+      if (type == JDBCType.BLOB || type == JDBCType.CLOB || type == JDBCType.NCLOB) {
+        if (lobs == null) {
+          lobs = new boolean[desc.columnDescriptors().size()];
+        }
+        lobs[i] = true;
+      }
+    }
+    return lobs;
+  }
+
+  /**
+   * @return the columns whose decoding is deferred to the first access or {@code null} when lazy decoding is disabled
+   */
+  private boolean[] lazyColumns(JDBCRowDesc desc, boolean[] lobs) {
+    if (options == null || !options.isLazyDecoding()) {
+      return null;
+    }
+    boolean[] deferred = null;
+    for (int i = 0; i < desc.columnDescriptors().size(); i++) {
+      ColumnDescriptor descriptor = desc.columnDescriptors().get(i);
+      if ((lobs == null || !lobs[i]) && descriptor instanceof JDBCColumnDescriptor
+        && LazyRow.isDeferrable((JDBCColumnDescriptor) descriptor)) {
+        if (deferred == null) {
+          deferred = new boolean[desc.columnDescriptors().size()];
+        }
+        deferred[i] = true;
+      }
+    }
+    return deferred;
+  }
+
+  private Object decodeLob(ResultSet rs, int pos) throws SQLException {
+    Object value = rs.getObject(pos);
+    long threshold = options.getLobInlineThreshold();
+    if (value instanceof Blob) {
+      Blob blob = (Blob) value;
+      if (blob.length() > threshold) {
+        return new SqlLobImpl(connection, blob);
+      }
+    } else if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      if (clob.length() > threshold) {
+        return new SqlLobImpl(connection, clob);
+      }
+    }
+    return helper.getDecoder().cast(value);
+  }
+
   private R decodeRawResultSet(ResultSet rs) throws SQLException {
     BiConsumer<C, Row> accumulator = collector.accumulator();
 
     // List<String> columnNames = new ArrayList<>();
     ResultSetMetaData metaData = rs.getMetaData();
-    JDBCColumnDescriptorProvider provider = JDBCColumnDescriptorProvider.fromResultMetaData(metaData);
     int cols = metaData.getColumnCount();
-    JDBCRowDesc desc = new JDBCRowDesc(provider, cols);
+    JDBCRowDesc desc = new JDBCRowDesc(helper.getInterner().provider(metaData), cols);
+    JDBCColumnDescriptorProvider provider = desc.columnProvider();
     C container = collector.supplier().get();
 
     while (rs.next()) {
@@ -187,29 +347,52 @@ public abstract class JDBCQueryAction<C, R> extends AbstractJDBCAction<JDBCRespo
       return;
     }
     if (keysRS != null) {
+      JDBCRowDesc keysDesc = null;
+      JDBCColumnDescriptorProvider provider = null;
+      GeneratedKeys keys = null;
+      int cols = 0;
       while (keysRS.next()) {
-        // only try to access metadata if there are rows
-        ResultSetMetaData metaData = keysRS.getMetaData();
-        if (metaData != null) {
-          JDBCColumnDescriptorProvider provider = JDBCColumnDescriptorProvider.fromResultMetaData(metaData);
-          int cols = metaData.getColumnCount();
-          Row keys = null;
-          if (cols > 0) {
-            JDBCRowDesc keysDesc = new JDBCRowDesc(provider, cols);
-
-            keys = new JDBCRow(keysDesc);
-            for (int i = 1; i <= cols; i++) {
-              keys.addValue(helper.getDecoder().parse(keysRS, i, provider));
+        if (keysDesc == null) {
+          // only try to access metadata if there are rows, the keys are described once
+          ResultSetMetaData metaData = keysRS.getMetaData();
+          if (metaData == null) {
+            continue;
+          }
+          cols = metaData.getColumnCount();
+          keysDesc = new JDBCRowDesc(helper.getInterner().provider(metaData), cols);
+          provider = keysDesc.columnProvider();
+          // integral keys are read directly unless the decoder is customized
+          keys = new GeneratedKeys(keysDesc, helper.getDecoder().getClass() == JDBCDecoderImpl.class);
+        }
+        if (keys.isCompact()) {
+          try {
+            long value = keysRS.getLong(1);
+            if (!keysRS.wasNull() && keys.add(value)) {
+              continue;
             }
+          } catch (SQLException e) {
+            // the key does not fit a long, e.g. a BIGINT UNSIGNED above Long.MAX_VALUE, decode it as a row
+            log.trace("Failed to read generated key as a long, decoding it", e);
+          }
+        }
+        Row row = null;
+        if (cols > 0) {
+          row = new JDBCRow(keysDesc);
+          for (int i = 1; i <= cols; i++) {
+            row.addValue(helper.getDecoder().parse(keysRS, i, provider));
           }
-          response.returnedKeys(keys);
         }
+        keys.add(row);
+      }
+      if (keys != null) {
+        response.returnedKeys(keys);
       }
     }
   }
 
-  boolean returnAutoGeneratedKeys(Connection conn) {
-    boolean autoGeneratedKeys = isAutoGeneratedKeys();
+  boolean returnAutoGeneratedKeys(Connection conn, String sql) {
+    // read-only and DDL statements do not generate keys, requesting them may change how the driver executes them
+    boolean autoGeneratedKeys = isAutoGeneratedKeys() && SqlClassifier.mayGenerateKeys(sql);
     io.vertx.core.json.JsonArray autoGeneratedKeysIndexes = getAutoGeneratedKeysIndexes();
     boolean autoGeneratedIndexes = autoGeneratedKeysIndexes != null && !autoGeneratedKeysIndexes.isEmpty();
     // even though the user wants it, the DBMS may not support it
@@ -226,23 +409,44 @@ public abstract class JDBCQueryAction<C, R> extends AbstractJDBCAction<JDBCRespo
     return false;
   }
 
-  protected Object adaptType(Connection conn, Object value) throws SQLException {
-    if (value instanceof LocalTime) {
-      // -> java.sql.Time
-      return Time.valueOf((LocalTime) value);
-    } else if (value instanceof LocalDate) {
-      // -> java.sql.Date
-      return Date.valueOf((LocalDate) value);
-    } else if (value instanceof Instant) {
-      // -> java.sql.Timestamp
-      return Timestamp.from((Instant) value);
-    } else if (value instanceof Buffer) {
-      // -> java.sql.Blob
-      Buffer buffer = (Buffer) value;
-      Blob blob = conn.createBlob();
-      blob.setBytes(1, buffer.getBytes());
-      return blob;
-    }
-    return value;
+  /**
+   * Bind a streamed parameter, the stream is consumed by the driver when the statement executes.
+   */
+  protected void bindStream(PreparedStatement ps, int idx, SqlLobParamImpl param) throws SQLException {
+    if (streamed == null) {
+      streamed = new ArrayList<>();
+    }
+    streamed.add(param);
+    param.bind(ps, idx, connection != null ? connection.getContext() : null);
+  }
+
+  /**
+   * Release the streams bound by {@link #bindStream} and the arrays bound by {@link #bind}, whether the statement
+   * succeeded or not.
+   */
+  protected void closeStreams() {
+    if (streamed != null) {
+      for (SqlLobParamImpl param : streamed) {
+        param.close();
+      }
+      streamed = null;
+    }
+    if (arrays != null) {
+      JDBCStatementHelper.free(arrays);
+      arrays = null;
+    }
+  }
+
+  /**
+   * Bind a parameter value, see {@link JDBCStatementHelper#bind}.
+   */
+  protected void bind(PreparedStatement ps, int idx, Connection conn, JDBCColumnDescriptorProvider provider, Object value) throws SQLException {
+    java.sql.Array array = JDBCStatementHelper.bind(ps, idx, conn, provider, value);
+    if (array != null) {
+      if (arrays == null) {
+        arrays = new ArrayList<>();
+      }
+      arrays.add(array);
+    }
   }
 }
@@ -16,6 +16,7 @@
 package io.vertx.jdbcclient.impl.actions;
 
 import io.vertx.jdbcclient.JDBCPool;
+import io.vertx.jdbcclient.impl.GeneratedKeys;
 import io.vertx.jdbcclient.impl.RowsListImpl;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.internal.QueryResultHandler;
@@ -39,7 +40,7 @@ public class JDBCResponse<R> {
 
   private final int update;
   private List<RS<R>> rs;
-  private List<Row> ids;
+  private List<GeneratedKeys> ids;
   private List<RS<R>> output;
   private R empty;
 
@@ -47,6 +48,10 @@ public class JDBCResponse<R> {
     this.update = updateCount;
   }
 
+  public int update() {
+    return update;
+  }
+
   public void push(R decodeResultSet, JDBCRowDesc desc, int size) {
     if (rs == null) {
       rs = new ArrayList<>();
@@ -54,7 +59,10 @@ public class JDBCResponse<R> {
     rs.add(new RS<>(decodeResultSet, desc, size));
   }
 
-  public void returnedKeys(Row keys) {
+  public void returnedKeys(GeneratedKeys keys) {
+    if (keys.size() == 0) {
+      return;
+    }
     if (ids == null) {
       ids = new ArrayList<>();
     }
@@ -74,8 +82,17 @@ public class JDBCResponse<R> {
 
   private void addIds(QueryResultHandler<R> handler) {
     if (ids != null && !ids.isEmpty()) {
-      handler.addProperty(JDBCPool.GENERATED_KEYS, ids.get(0));
-      handler.addProperty(JDBCPool.GENERATED_KEYS_LIST, new RowsListImpl(ids));
+      handler.addProperty(JDBCPool.GENERATED_KEYS, ids.get(0).first());
+      if (ids.size() == 1) {
+        // the rows are created when the list is accessed
+        handler.addProperty(JDBCPool.GENERATED_KEYS_LIST, ids.get(0));
+      } else {
+        List<Row> rows = new ArrayList<>();
+        for (GeneratedKeys keys : ids) {
+          rows.addAll(keys.rows());
+        }
+        handler.addProperty(JDBCPool.GENERATED_KEYS_LIST, new RowsListImpl(rows));
+      }
     }
   }
 
@@ -5,9 +5,18 @@ import io.vertx.sqlclient.desc.ColumnDescriptor;
 import io.vertx.sqlclient.internal.RowDescriptorBase;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 public class JDBCRowDesc extends RowDescriptorBase {
 
+  // column name to index, built once and shared by all the rows of a result
+  private final Map<String, Integer> index;
+  // same with lower case names, for drivers that do not preserve the label casing
+  private final Map<String, Integer> caseInsensitiveIndex;
+
   private static ColumnDescriptor[] foo(JDBCColumnDescriptorProvider provider, int cols) throws SQLException {
     ColumnDescriptor[] columnDescriptors = new ColumnDescriptor[cols];
     for (int i = 0; i < cols; i++) {
@@ -18,14 +27,54 @@ public class JDBCRowDesc extends RowDescriptorBase {
   }
 
   public JDBCRowDesc() {
-    super(new ColumnDescriptor[0]);
+    this(new ColumnDescriptor[0]);
   }
 
   public JDBCRowDesc(ColumnDescriptor[] columnDescriptors) {
     super(columnDescriptors);
+    List<String> names = columnNames();
+    index = new HashMap<>(names.size() * 2);
+    caseInsensitiveIndex = new HashMap<>(names.size() * 2);
+    for (int i = 0; i < names.size(); i++) {
+      String name = names.get(i);
+      if (name != null) {
+        // the first column wins, like a linear scan would
+        index.putIfAbsent(name, i);
+        caseInsensitiveIndex.putIfAbsent(name.toLowerCase(Locale.ROOT), i);
+      }
+    }
   }
 
   public JDBCRowDesc(JDBCColumnDescriptorProvider provider, int cols) throws SQLException {
-    super(foo(provider, cols));
+    this(foo(provider, cols));
+  }
+
+  /**
+   * The decoding plan of a result set: the descriptors are copies of the descriptors of this row desc, so the decode
+   * hints learnt while decoding a result set do not apply to the other result sets describing the same columns.
+   *
+   * @return a provider of the descriptors of this row desc, instead of reading the result set metadata for each value
+   */
+  public JDBCColumnDescriptorProvider columnProvider() {
+    List<ColumnDescriptor> descriptors = columnDescriptors();
+    JDBCColumnDescriptor[] plan = new JDBCColumnDescriptor[descriptors.size()];
+    for (int i = 0; i < plan.length; i++) {
+      plan[i] = ((JDBCColumnDescriptor) descriptors.get(i)).copy();
+    }
+    return col -> plan[col - 1];
+  }
+
+  /**
+   * Lookup the index of a column, the exact name is matched first, then the name ignoring case.
+   *
+   * @param name the column name
+   * @return the column index or {@code -1} when no column matches
+   */
+  public int columnIndex(String name) {
+    Integer idx = index.get(name);
+    if (idx == null) {
+      idx = caseInsensitiveIndex.get(name.toLowerCase(Locale.ROOT));
+    }
+    return idx == null ? -1 : idx;
   }
 }
@@ -16,13 +16,35 @@
 
 package io.vertx.jdbcclient.impl.actions;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.json.JsonObject;
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
 import io.vertx.jdbcclient.spi.JDBCDecoder;
 import io.vertx.jdbcclient.spi.JDBCEncoder;
 import io.vertx.jdbcclient.spi.JDBCDecoderImpl;
 import io.vertx.jdbcclient.spi.JDBCEncoderImpl;
 
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
@@ -37,18 +59,31 @@ import java.util.regex.Pattern;
 //- Add 2 new properties: encoderCls and decoderCls
 public final class JDBCStatementHelper {
 
+  private static final Logger log = LoggerFactory.getLogger(JDBCStatementHelper.class);
+
+  /**
+   * Binary parameters larger than this are bound as a stream over the buffer content instead of a byte array.
+   */
+  static final int BINARY_INLINE_THRESHOLD = 32 * 1024;
+
   public static final Pattern UUID = Pattern.compile("^[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}$");
 
   private final JDBCEncoder encoder;
   private final JDBCDecoder decoder;
+  private final ColumnDescriptorInterner interner;
 
   public JDBCStatementHelper() {
     this(new JsonObject());
   }
 
   public JDBCStatementHelper(JsonObject config) {
+    this(config, new ColumnDescriptorInterner());
+  }
+
+  public JDBCStatementHelper(JsonObject config, ColumnDescriptorInterner interner) {
     this.encoder = initEncoder(config);
     this.decoder = initDecoder(config);
+    this.interner = interner;
   }
 
   private JDBCEncoder initEncoder(JsonObject config) {
@@ -77,6 +112,13 @@ public final class JDBCStatementHelper {
     return decoder;
   }
 
+  /**
+   * @return the interner of the result set column descriptors, shared by the connections of a pool
+   */
+  public ColumnDescriptorInterner getInterner() {
+    return interner;
+  }
+
   private static <T> T initObject(String clsName) {
     Class<T> cls = findClass(clsName);
     if (cls == null) {
@@ -105,4 +147,237 @@ public final class JDBCStatementHelper {
     return null;
   }
 
+  /**
+   * Bind a parameter value, the parameter descriptor is only resolved when the value needs it. Statements, bulk loads
+   * and exports bind their parameters with this method so a value is bound the same way whatever the operation.
+   *
+   * @return the array created to bind an array value, to free once the statement has been executed, or {@code null}
+   */
+  public static java.sql.Array bind(PreparedStatement ps, int idx, Connection conn, JDBCColumnDescriptorProvider provider, Object value) throws SQLException {
+    if (value == null) {
+      bindNull(ps, idx, provider);
+      return null;
+    }
+    if (value instanceof Buffer || isArrayValue(value)) {
+      // resolved once and passed down
+      JDBCColumnDescriptor descriptor = provider.apply(idx);
+      if (value instanceof Buffer) {
+        if (descriptor.jdbcTypeWrapper().isBinaryType()) {
+          bindBinary(ps, idx, (Buffer) value);
+          return null;
+        }
+      } else if (descriptor.isArray()) {
+        return bindArray(ps, idx, conn, descriptor, value);
+      }
+    }
+    bindTyped(ps, idx, adaptType(conn, value));
+    return null;
+  }
+
+  /**
+   * Wrap a parameter provider so each parameter descriptor is created once, the encoder and {@link #bind} of a
+   * parameter, and the rows of a batch, then share it.
+   */
+  public static JDBCColumnDescriptorProvider memoize(JDBCColumnDescriptorProvider provider) {
+    Map<Integer, JDBCColumnDescriptor> descriptors = new HashMap<>();
+    return col -> {
+      JDBCColumnDescriptor descriptor = descriptors.get(col);
+      if (descriptor == null) {
+        descriptor = provider.apply(col);
+        descriptors.put(col, descriptor);
+      }
+      return descriptor;
+    };
+  }
+
+  /**
+   * Free the arrays returned by {@link #bind}.
+   */
+  public static void free(List<java.sql.Array> arrays) {
+    for (java.sql.Array array : arrays) {
+      try {
+        array.free();
+      } catch (SQLException e) {
+        log.debug("Failed to free an array parameter", e);
+      }
+    }
+  }
+
+  /**
+   * Bind {@code NULL} with the parameter type when the driver reports it, so the driver does not have to infer it.
+   */
+  private static void bindNull(PreparedStatement ps, int idx, JDBCColumnDescriptorProvider provider) throws SQLException {
+    JDBCType type;
+    try {
+      type = provider.apply(idx).jdbcType();
+    } catch (SQLException e) {
+      log.debug("Cannot resolve the type of parameter " + idx, e);
+      type = null;
+    }
+    if (type == null || type == JDBCType.NULL || type == JDBCType.OTHER || type == JDBCType.JAVA_OBJECT) {
+      ps.setObject(idx, null);
+    } else {
+      ps.setNull(idx, type.getVendorTypeNumber());
+    }
+  }
+
+  /**
+   * Bind a value with the setter of its type, which drivers handle without the type dispatch of {@code setObject}.
+   */
+  private static void bindTyped(PreparedStatement ps, int idx, Object value) throws SQLException {
+    if (value instanceof String) {
+      ps.setString(idx, (String) value);
+    } else if (value instanceof Integer) {
+      ps.setInt(idx, (Integer) value);
+    } else if (value instanceof Long) {
+      ps.setLong(idx, (Long) value);
+    } else if (value instanceof Double) {
+      ps.setDouble(idx, (Double) value);
+    } else if (value instanceof Boolean) {
+      ps.setBoolean(idx, (Boolean) value);
+    } else if (value instanceof BigDecimal) {
+      ps.setBigDecimal(idx, (BigDecimal) value);
+    } else if (value instanceof Short) {
+      ps.setShort(idx, (Short) value);
+    } else if (value instanceof Float) {
+      ps.setFloat(idx, (Float) value);
+    } else if (value instanceof Timestamp) {
+      ps.setTimestamp(idx, (Timestamp) value);
+    } else if (value instanceof Date) {
+      ps.setDate(idx, (Date) value);
+    } else if (value instanceof Time) {
+      ps.setTime(idx, (Time) value);
+    } else if (value instanceof byte[]) {
+      ps.setBytes(idx, (byte[]) value);
+    } else if (value instanceof Blob) {
+      ps.setBlob(idx, (Blob) value);
+    } else {
+      ps.setObject(idx, value);
+    }
+  }
+
+  private static boolean isArrayValue(Object value) {
+    return value instanceof List || (value != null && value.getClass().isArray() && !(value instanceof byte[]));
+  }
+
+  /**
+   * Bind a Java array or {@link List} to an {@code ARRAY} parameter with {@link Connection#createArrayOf}, so a single
+   * statement such as {@code WHERE id = ANY(?)} can be used whatever the number of elements.
+   */
+  private static java.sql.Array bindArray(PreparedStatement ps, int idx, Connection conn, JDBCColumnDescriptor descriptor, Object value) throws SQLException {
+    Object[] elements;
+    if (value instanceof List) {
+      elements = ((List<?>) value).toArray();
+    } else if (value instanceof Object[]) {
+      elements = ((Object[]) value).clone();
+    } else {
+      // primitive array
+      elements = new Object[java.lang.reflect.Array.getLength(value)];
+      for (int i = 0; i < elements.length; i++) {
+        elements[i] = java.lang.reflect.Array.get(value, i);
+      }
+    }
+    for (int i = 0; i < elements.length; i++) {
+      Object element = elements[i];
+      elements[i] = element instanceof Buffer ? ((Buffer) element).getBytes() : adaptType(conn, element);
+    }
+    java.sql.Array array = conn.createArrayOf(arrayBaseTypeName(descriptor.typeName(), elements), elements);
+    ps.setArray(idx, array);
+    // some drivers hold native or session resources until the array is freed
+    return array;
+  }
+
+  /**
+   * Derive the element type name of an array type from its name as reported by the driver, e.g. {@code INTEGER ARRAY},
+   * {@code int4[]} or {@code _int4}, falling back to the type of the elements when the driver does not report it.
+   */
+  static String arrayBaseTypeName(String typeName, Object[] elements) {
+    if (typeName != null) {
+      String name = typeName.trim();
+      if (name.regionMatches(true, Math.max(0, name.length() - 6), " ARRAY", 0, 6)) {
+        return name.substring(0, name.length() - 6).trim();
+      }
+      if (name.endsWith("[]")) {
+        return name.substring(0, name.length() - 2).trim();
+      }
+      if (name.startsWith("_") && name.length() > 1) {
+        return name.substring(1);
+      }
+    }
+    for (Object element : elements) {
+      if (element != null) {
+        return sqlTypeName(element);
+      }
+    }
+    return "VARCHAR";
+  }
+
+  private static String sqlTypeName(Object element) {
+    if (element instanceof Integer) {
+      return "INTEGER";
+    } else if (element instanceof Long) {
+      return "BIGINT";
+    } else if (element instanceof Short) {
+      return "SMALLINT";
+    } else if (element instanceof Double) {
+      return "DOUBLE";
+    } else if (element instanceof Float) {
+      return "REAL";
+    } else if (element instanceof BigDecimal) {
+      return "NUMERIC";
+    } else if (element instanceof Boolean) {
+      return "BOOLEAN";
+    } else if (element instanceof Date) {
+      return "DATE";
+    } else if (element instanceof Time) {
+      return "TIME";
+    } else if (element instanceof Timestamp) {
+      return "TIMESTAMP";
+    } else if (element instanceof byte[]) {
+      return "VARBINARY";
+    } else if (element instanceof java.util.UUID) {
+      return "UUID";
+    }
+    return "VARCHAR";
+  }
+
+  /**
+   * Bind a {@code BINARY}/{@code VARBINARY} value without creating a {@link Blob}: small values are bound as a byte
+   * array (the backing array when it can be shared), larger ones as a stream over the buffer content.
+   */
+  private static void bindBinary(PreparedStatement ps, int idx, Buffer buffer) throws SQLException {
+    int length = buffer.length();
+    if (buffer instanceof BufferInternal) {
+      ByteBuf buf = ((BufferInternal) buffer).getByteBuf();
+      if (length > BINARY_INLINE_THRESHOLD) {
+        ps.setBinaryStream(idx, new ByteBufInputStream(buf), length);
+        return;
+      }
+      if (buf.hasArray() && buf.arrayOffset() == 0 && buf.readerIndex() == 0 && buf.array().length == length) {
+        ps.setBytes(idx, buf.array());
+        return;
+      }
+    }
+    ps.setBytes(idx, buffer.getBytes());
+  }
+
+  public static Object adaptType(Connection conn, Object value) throws SQLException {
+    if (value instanceof LocalTime) {
+      // -> java.sql.Time
+      return Time.valueOf((LocalTime) value);
+    } else if (value instanceof LocalDate) {
+      // -> java.sql.Date
+      return Date.valueOf((LocalDate) value);
+    } else if (value instanceof Instant) {
+      // -> java.sql.Timestamp
+      return Timestamp.from((Instant) value);
+    } else if (value instanceof Buffer) {
+      // -> java.sql.Blob
+      Buffer buffer = (Buffer) value;
+      Blob blob = conn.createBlob();
+      blob.setBytes(1, buffer.getBytes());
+      return blob;
+    }
+    return value;
+  }
 }
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.jdbcclient.impl.actions;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classify a statement from its leading keyword, comments, string literals and quoted identifiers are ignored. For a
+ * {@code WITH} statement the keyword following the common table expressions is used. The table modified by an
+ * {@code INSERT}, {@code MERGE}, {@code UPDATE}, {@code DELETE} or {@code TRUNCATE} statement is read after its
+ * keywords.
+ * <p>
+ * The results are cached, when the cache is full new statements are classified on each call.
+ * <p>
+ * This is the SQL scanner shared by the client: {@link #skip(String, int)} is also used to find the placeholders of a
+ * statement. Literals are delimited by their quote only, quotes escaped with a backslash and PostgreSQL dollar quoted
+ * literals are not recognized.
+ */
+public final class SqlClassifier {
+
+  public enum Kind {
+    QUERY, INSERT, MERGE, UPDATE, DELETE, DDL, CALL, OTHER
+  }
+
+  static final int MAX_CACHE_SIZE = 1024;
+
+  private static final ConcurrentHashMap<String, Classification> CACHE = new ConcurrentHashMap<>();
+
+  // keywords that may appear between the statement keyword and the table, e.g. INSERT IGNORE INTO t or UPDATE ONLY t
+  private static final Set<String> MODIFIERS = new HashSet<>(Arrays.asList(
+    "IGNORE", "ONLY", "LOW_PRIORITY", "DELAYED", "QUICK", "HIGH_PRIORITY"));
+
+  private static final Classification OTHER = new Classification(Kind.OTHER, null);
+  private static final Classification CALL = new Classification(Kind.CALL, null);
+
+  static final class Classification {
+
+    final Kind kind;
+    final String table;
+
+    Classification(Kind kind, String table) {
+      this.kind = kind;
+      this.table = table;
+    }
+  }
+
+  private SqlClassifier() {
+  }
+
+  /**
+   * @return whether generated keys should be requested when preparing the statement, i.e. unless the statement is
+   *         read-only or a DDL statement
+   */
+  public static boolean mayGenerateKeys(String sql) {
+    Kind kind = classify(sql);
+    return kind != Kind.QUERY && kind != Kind.DDL;
+  }
+
+  public static Kind classify(String sql) {
+    return classification(sql).kind;
+  }
+
+  /**
+   * @return the table modified by the statement as written in the statement (possibly qualified and quoted), or
+   *         {@code null} when the statement does not modify a single table or the table cannot be determined
+   */
+  public static String modifiedTable(String sql) {
+    return classification(sql).table;
+  }
+
+  private static Classification classification(String sql) {
+    if (sql == null) {
+      return OTHER;
+    }
+    Classification classification = CACHE.get(sql);
+    if (classification == null) {
+      classification = lex(sql);
+      if (CACHE.size() < MAX_CACHE_SIZE) {
+        CACHE.putIfAbsent(sql, classification);
+      }
+    }
+    return classification;
+  }
+
+  static Classification lex(String sql) {
+    Lexer lexer = new Lexer(sql);
+    if (lexer.escape()) {
+      // JDBC escape syntax, e.g. {call proc(?)} or {? = call func(?)}
+      return CALL;
+    }
+    String word = lexer.nextWord();
+    if (word == null) {
+      return OTHER;
+    }
+    if (!word.equals("WITH")) {
+      return classification(word, lexer);
+    }
+    // the main statement is the first statement keyword outside the parentheses of the common table expressions
+    while ((word = lexer.nextWord()) != null) {
+      if (lexer.depth == 0) {
+        Kind kind = kind(word);
+        if (kind != Kind.OTHER && kind != Kind.DDL) {
+          return classification(word, lexer);
+        }
+      }
+    }
+    return OTHER;
+  }
+
+  private static Classification classification(String keyword, Lexer lexer) {
+    Kind kind = kind(keyword);
+    String table = null;
+    switch (keyword) {
+      case "INSERT":
+      case "REPLACE":
+      case "UPSERT":
+      case "MERGE":
+        table = lexer.nextName("INTO");
+        break;
+      case "UPDATE":
+        table = lexer.nextName(null);
+        break;
+      case "DELETE":
+        table = lexer.nextName("FROM");
+        break;
+      case "TRUNCATE":
+        table = lexer.nextName("TABLE");
+        break;
+    }
+    return new Classification(kind, table);
+  }
+
+  private static Kind kind(String word) {
+    switch (word) {
+      case "SELECT":
+      case "VALUES":
+      case "TABLE":
+      case "SHOW":
+      case "EXPLAIN":
+      case "DESCRIBE":
+        return Kind.QUERY;
+      case "INSERT":
+      case "REPLACE":
+      case "UPSERT":
+        return Kind.INSERT;
+      case "MERGE":
+        return Kind.MERGE;
+      case "UPDATE":
+        return Kind.UPDATE;
+      case "DELETE":
+        return Kind.DELETE;
+      case "CREATE":
+      case "ALTER":
+      case "DROP":
+      case "TRUNCATE":
+      case "GRANT":
+      case "REVOKE":
+      case "COMMENT":
+        return Kind.DDL;
+      case "CALL":
+      case "EXEC":
+      case "EXECUTE":
+        return Kind.CALL;
+      default:
+        return Kind.OTHER;
+    }
+  }
+
+  private static final class Lexer {
+
+    private final String sql;
+    private final int len;
+    private int pos;
+    // the parenthesis depth of the last word
+    int depth;
+
+    Lexer(String sql) {
+      this.sql = sql;
+      this.len = sql.length();
+    }
+
+    /**
+     * @return whether the statement starts with a JDBC escape
+     */
+    boolean escape() {
+      skip();
+      return pos < len && sql.charAt(pos) == '{';
+    }
+
+    /**
+     * @return the next unquoted word in upper case, or {@code null} at the end of the statement
+     */
+    String nextWord() {
+      while (true) {
+        skip();
+        if (pos >= len) {
+          return null;
+        }
+        char c = sql.charAt(pos);
+        if (Character.isLetter(c) || c == '_') {
+          int start = pos;
+          while (pos < len && (Character.isLetterOrDigit(sql.charAt(pos)) || sql.charAt(pos) == '_')) {
+            pos++;
+          }
+          return sql.substring(start, pos).toUpperCase(Locale.ROOT);
+        }
+        if (c == '(') {
+          depth++;
+        } else if (c == ')') {
+          depth--;
+        }
+        pos++;
+      }
+    }
+
+    /**
+     * Read the name following the current word, possibly qualified and quoted, an optional leading {@code keyword}
+     * and the {@link #MODIFIERS} are skipped.
+     *
+     * @return the name or {@code null} when the statement does not continue with a name
+     */
+    String nextName(String keyword) {
+      String name = name();
+      while (name != null) {
+        String word = name.toUpperCase(Locale.ROOT);
+        if (!MODIFIERS.contains(word) && !word.equals(keyword)) {
+          break;
+        }
+        name = name();
+      }
+      return name;
+    }
+
+    private String name() {
+      pos = skipComments(sql, pos);
+      int start = pos;
+      while (pos < len) {
+        char c = sql.charAt(pos);
+        if (c == '"' || c == '`' || c == '[') {
+          int end = sql.indexOf(c == '[' ? ']' : c, pos + 1);
+          pos = end < 0 ? len : end + 1;
+        } else if (Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.') {
+          pos++;
+        } else {
+          break;
+        }
+      }
+      return pos > start ? sql.substring(start, pos) : null;
+    }
+
+    private void skip() {
+      pos = SqlClassifier.skip(sql, pos);
+    }
+  }
+
+  /**
+   * Skip the whitespace, comments, string literals and quoted identifiers starting at {@code pos}.
+   *
+   * @return the position of the first other character, {@code pos} when there is nothing to skip
+   */
+  public static int skip(String sql, int pos) {
+    int len = sql.length();
+    while (pos < len) {
+      char c = sql.charAt(pos);
+      if (c == '\'' || c == '"' || c == '`') {
+        // doubled quotes are handled as two consecutive literals
+        int end = sql.indexOf(c, pos + 1);
+        pos = end < 0 ? len : end + 1;
+      } else {
+        int next = skipComments(sql, pos);
+        if (next == pos) {
+          return pos;
+        }
+        pos = next;
+      }
+    }
+    return pos;
+  }
+
+  private static int skipComments(String sql, int pos) {
+    int len = sql.length();
+    while (pos < len) {
+      char c = sql.charAt(pos);
+      if (Character.isWhitespace(c)) {
+        pos++;
+      } else if (c == '-' && pos + 1 < len && sql.charAt(pos + 1) == '-') {
+        int end = sql.indexOf('\n', pos);
+        pos = end < 0 ? len : end + 1;
+      } else if (c == '/' && pos + 1 < len && sql.charAt(pos + 1) == '*') {
+        int end = sql.indexOf("*/", pos + 2);
+        pos = end < 0 ? len : end + 2;
+      } else {
+        return pos;
+      }
+    }
+    return pos;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient.spi;
+
+import io.vertx.jdbcclient.impl.actions.CachedParameterMetaData;
+import io.vertx.jdbcclient.impl.actions.JDBCStatementHelper;
+import io.vertx.sqlclient.Tuple;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The portable {@link JDBCBulkLoader}, executing an {@code INSERT} statement in batches of {@code batchSize} rows.
+ */
+public class JDBCBatchInsertLoader implements JDBCBulkLoader {
+
+  /**
+   * The default number of rows inserted per batch = 1000
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final int batchSize;
+
+  public JDBCBatchInsertLoader() {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  public JDBCBatchInsertLoader(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be > 0");
+    }
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public boolean accepts(Connection connection) {
+    return true;
+  }
+
+  @Override
+  public long load(Connection connection, JDBCEncoder encoder, String table, List<String> columns, Iterator<Tuple> rows) throws SQLException {
+    StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+    StringBuilder values = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        sql.append(", ");
+        values.append(", ");
+      }
+      sql.append(columns.get(i));
+      values.append('?');
+    }
+    sql.append(") VALUES (").append(values).append(')');
+    try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+      JDBCColumnDescriptorProvider provider = JDBCStatementHelper.memoize(
+        JDBCColumnDescriptorProvider.fromParameterMetaData(new CachedParameterMetaData(ps)));
+      // the arrays bound by the pending rows
+      List<java.sql.Array> arrays = new ArrayList<>();
+      long count = 0;
+      int pending = 0;
+      try {
+        while (rows.hasNext()) {
+          Tuple row = rows.next();
+          if (row.size() != columns.size()) {
+            throw new SQLException("Row has " + row.size() + " values instead of " + columns.size());
+          }
+          for (int idx = 1; idx <= row.size(); idx++) {
+            // bound like the parameters of a statement
+            java.sql.Array array = JDBCStatementHelper.bind(ps, idx, connection, provider, encoder.encode(row, idx, provider));
+            if (array != null) {
+              arrays.add(array);
+            }
+          }
+          ps.addBatch();
+          count++;
+          if (++pending == batchSize) {
+            ps.executeBatch();
+            JDBCStatementHelper.free(arrays);
+            arrays.clear();
+            pending = 0;
+          }
+        }
+        if (pending > 0) {
+          ps.executeBatch();
+        }
+      } finally {
+        JDBCStatementHelper.free(arrays);
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient.spi;
+
+import io.vertx.sqlclient.Tuple;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Loads a stream of rows into a table, see {@link io.vertx.jdbcclient.JDBCConnection#bulkLoad}.
+ * <p>
+ * Loaders are discovered with the SPI file ({@code META-INF/services/io.vertx.jdbcclient.spi.JDBCBulkLoader}), the
+ * first loader accepting the connection is used. This lets a vendor module use a native bulk protocol, e.g.
+ * {@code COPY ... FROM STDIN} or a bulk copy API, that is much faster than batched inserts. When no loader accepts the
+ * connection, {@link JDBCBatchInsertLoader} is used.
+ * <p>
+ * The loader methods are called on a worker thread.
+ */
+public interface JDBCBulkLoader {
+
+  /**
+   * @param connection the connection to load with
+   * @return whether this loader supports the connection, e.g. after checking it wraps a driver specific connection
+   */
+  boolean accepts(Connection connection) throws SQLException;
+
+  /**
+   * Load the rows, the iterator blocks until the next row is available and applies back-pressure to the stream the
+   * rows are read from.
+   *
+   * @param connection the connection to load with
+   * @param encoder the encoder of the connection, to convert the row values
+   * @param table the table name, as written in a statement
+   * @param columns the column names, as written in a statement, in the order of the row values
+   * @param rows the rows to load
+   * @return the number of loaded rows
+   * @throws SQLException when the load failed
+   */
+  long load(Connection connection, JDBCEncoder encoder, String table, List<String> columns, Iterator<Tuple> rows) throws SQLException;
+
+}
@@ -32,15 +32,90 @@ import java.net.URL;
 import java.sql.*;
 import java.time.*;
 import java.time.format.DateTimeParseException;
+import java.math.BigDecimal;
 import java.util.Optional;
 
 public class JDBCDecoderImpl implements JDBCDecoder {
 
   private static final Logger LOG = LoggerFactory.getLogger(JDBCDecoder.class);
 
+  /**
+   * LOB values up to this length are read with a single {@code getBytes}/{@code getSubString} call, larger values
+   * are copied from their stream into a pre-sized buffer.
+   */
+  static final int LOB_DIRECT_READ_THRESHOLD = 1024 * 1024;
+
+  private static final int TRANSFER_BUFFER_SIZE = 8 * 1024;
+  // transfer buffers reused by the worker threads decoding values
+  private static final ThreadLocal<byte[]> BYTE_TRANSFER_BUFFER = ThreadLocal.withInitial(() -> new byte[TRANSFER_BUFFER_SIZE]);
+  private static final ThreadLocal<char[]> CHAR_TRANSFER_BUFFER = ThreadLocal.withInitial(() -> new char[TRANSFER_BUFFER_SIZE]);
+
+  /**
+   * Hint: the value of the column cannot be read without a class, see {@link #getCoerceObject(SQLValueProvider, JDBCColumnDescriptor)}.
+   */
+  protected static final int HINT_READ_WITH_CLASS = 1;
+  /**
+   * Hint: the driver cannot convert the value of the number column to the mapped class.
+   */
+  protected static final int HINT_NUMBER_AS_OBJECT = 2;
+  /**
+   * Hint: the driver cannot convert the value of the date time column to the mapped class.
+   */
+  protected static final int HINT_DATETIME_AS_OBJECT = 4;
+  /**
+   * Hint: the typed getter of the column failed, the values are read with {@code getObject}.
+   */
+  protected static final int HINT_NO_TYPED_GETTER = 8;
+
+  // subclasses may customize the decoding of the types read with typed getters
+  private final boolean typedGetters;
+
+  public JDBCDecoderImpl() {
+    this.typedGetters = getClass() == JDBCDecoderImpl.class;
+  }
+
   @Override
   public Object parse(ResultSet rs, int pos, JDBCColumnDescriptorProvider jdbcTypeLookup) throws SQLException {
-    return decode(jdbcTypeLookup.apply(pos), cls -> cls == null ? rs.getObject(pos) : rs.getObject(pos, cls));
+    JDBCColumnDescriptor descriptor = jdbcTypeLookup.apply(pos);
+    if (typedGetters && descriptor != null && descriptor.jdbcType() != null && (descriptor.decodeHints() & HINT_NO_TYPED_GETTER) == 0) {
+      try {
+        switch (descriptor.jdbcType()) {
+          case INTEGER: {
+            int v = rs.getInt(pos);
+            return v == 0 && rs.wasNull() ? null : v;
+          }
+          case BIGINT: {
+            long v = rs.getLong(pos);
+            return v == 0L && rs.wasNull() ? null : v;
+          }
+          case SMALLINT: {
+            short v = rs.getShort(pos);
+            return v == 0 && rs.wasNull() ? null : v;
+          }
+          case DOUBLE: {
+            double v = rs.getDouble(pos);
+            return v == 0d && rs.wasNull() ? null : v;
+          }
+          case FLOAT:
+          case REAL: {
+            float v = rs.getFloat(pos);
+            return v == 0f && rs.wasNull() ? null : v;
+          }
+          case NUMERIC:
+          case DECIMAL:
+            return rs.getBigDecimal(pos);
+          case BOOLEAN: {
+            boolean v = rs.getBoolean(pos);
+            return !v && rs.wasNull() ? null : v;
+          }
+        }
+      } catch (SQLException e) {
+        // e.g. an unsigned value out of the range of the getter, the driver chooses the type of the next values too
+        LOG.debug("Error when reading " + descriptor + " with a typed getter", e);
+        descriptor.addDecodeHint(HINT_NO_TYPED_GETTER);
+      }
+    }
+    return decode(descriptor, cls -> cls == null ? rs.getObject(pos) : rs.getObject(pos, cls));
   }
 
   @Override
@@ -78,7 +153,7 @@ public class JDBCDecoderImpl implements JDBCDecoder {
       if (descriptor.jdbcTypeWrapper().isSpecificVendorType()) {
         return decodeSpecificVendorType(valueProvider, descriptor);
       }
-      return cast(getCoerceObject(valueProvider, descriptor.jdbcTypeWrapper().vendorTypeClass()));
+      return cast(getCoerceObject(valueProvider, descriptor));
     } else {
       return cast(valueProvider.apply(null));
     }
@@ -98,12 +173,26 @@ public class JDBCDecoderImpl implements JDBCDecoder {
 
     if (value instanceof Blob) {
       Blob v = (Blob) value;
-      return v.length() == 0L ? Buffer.buffer(0) : streamToBuffer(v.getBinaryStream(), Blob.class);
+      long length = v.length();
+      if (length == 0L) {
+        return Buffer.buffer(0);
+      }
+      if (length <= LOB_DIRECT_READ_THRESHOLD) {
+        return Buffer.buffer(v.getBytes(1, (int) length));
+      }
+      return streamToBuffer(v.getBinaryStream(), Blob.class, length);
     }
 
     if (value instanceof Clob) {
       Clob v = (Clob) value;
-      return v.length() == 0L ? "" : readerToString(v.getCharacterStream(), Clob.class);
+      long length = v.length();
+      if (length == 0L) {
+        return "";
+      }
+      if (length <= LOB_DIRECT_READ_THRESHOLD) {
+        return v.getSubString(1, (int) length);
+      }
+      return readerToString(v.getCharacterStream(), Clob.class, length);
     }
 
     if (value instanceof Ref) {
@@ -136,7 +225,7 @@ public class JDBCDecoderImpl implements JDBCDecoder {
   }
 
   protected Object decodeArray(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
-    final Object value = getCoerceObject(valueProvider, descriptor.jdbcTypeWrapper().vendorTypeClass());
+    final Object value = getCoerceObject(valueProvider, descriptor);
     if (value instanceof Array) {
       return decodeArray((Array) value, descriptor);
     }
@@ -149,43 +238,47 @@ public class JDBCDecoderImpl implements JDBCDecoder {
    * @see JDBCTypeWrapper#isDateTimeType()
    */
   protected Object decodeDateTime(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
+    if ((descriptor.decodeHints() & HINT_DATETIME_AS_OBJECT) == 0) {
+      try {
+        return cast(valueProvider.apply(descriptor.jdbcTypeWrapper().vendorTypeClass()));
+      } catch (SQLException e) {
+        LOG.debug("Error when convert SQL date time. Try coerce value", e);
+        // the next values of the column are coerced directly
+        descriptor.addDecodeHint(HINT_DATETIME_AS_OBJECT);
+      }
+    }
+    Object value = valueProvider.apply(null);
+    if (value == null) {
+      return null;
+    }
     try {
-      return cast(valueProvider.apply(descriptor.jdbcTypeWrapper().vendorTypeClass()));
-    } catch (SQLException e) {
-      LOG.debug("Error when convert SQL date time. Try coerce value", e);
-      Object value = valueProvider.apply(null);
-      if (value == null) {
-        return null;
+      // Some JDBC drivers (PG driver) treats Timestamp with TimeZone/Time with TimeZone
+      // to java.sql.timestamp/java.sql.time/String at system timezone
+      // and handles date time data type internally
+      // then this code will try parse to OffsetTime/OffsetDateTime at UTC timezone with ISO8601 format
+      if (value instanceof Time) {
+        return Instant.ofEpochMilli(((Time) value).getTime()).atOffset(ZoneOffset.UTC).toOffsetTime();
+      }
+      if (descriptor.jdbcType() == JDBCType.TIME) {
+        return LocalTime.parse(value.toString()).atOffset(ZoneOffset.UTC);
+      }
+      if (descriptor.jdbcType() == JDBCType.TIME_WITH_TIMEZONE) {
+        return OffsetTime.parse(value.toString()).withOffsetSameInstant(ZoneOffset.UTC);
       }
-      try {
-        // Some JDBC drivers (PG driver) treats Timestamp with TimeZone/Time with TimeZone
-        // to java.sql.timestamp/java.sql.time/String at system timezone
-        // and handles date time data type internally
-        // then this code will try parse to OffsetTime/OffsetDateTime at UTC timezone with ISO8601 format
-        if (value instanceof Time) {
-          return Instant.ofEpochMilli(((Time) value).getTime()).atOffset(ZoneOffset.UTC).toOffsetTime();
-        }
-        if (descriptor.jdbcType() == JDBCType.TIME) {
-          return LocalTime.parse(value.toString()).atOffset(ZoneOffset.UTC);
-        }
-        if (descriptor.jdbcType() == JDBCType.TIME_WITH_TIMEZONE) {
-          return OffsetTime.parse(value.toString()).withOffsetSameInstant(ZoneOffset.UTC);
-        }
 
-        if (value instanceof Timestamp) {
-          return ((Timestamp) value).toInstant().atOffset(ZoneOffset.UTC);
-        }
-        if (descriptor.jdbcType() == JDBCType.TIMESTAMP) {
-          return LocalDateTime.parse(value.toString()).atOffset(ZoneOffset.UTC);
-        }
-        if (descriptor.jdbcType() == JDBCType.TIMESTAMP_WITH_TIMEZONE) {
-          return OffsetDateTime.parse(value.toString()).withOffsetSameInstant(ZoneOffset.UTC);
-        }
-      } catch (DateTimeParseException ex) {
-        LOG.debug("Error when coerce date time value", ex);
+      if (value instanceof Timestamp) {
+        return ((Timestamp) value).toInstant().atOffset(ZoneOffset.UTC);
+      }
+      if (descriptor.jdbcType() == JDBCType.TIMESTAMP) {
+        return LocalDateTime.parse(value.toString()).atOffset(ZoneOffset.UTC);
+      }
+      if (descriptor.jdbcType() == JDBCType.TIMESTAMP_WITH_TIMEZONE) {
+        return OffsetDateTime.parse(value.toString()).withOffsetSameInstant(ZoneOffset.UTC);
       }
-      return cast(value);
+    } catch (DateTimeParseException ex) {
+      LOG.debug("Error when coerce date time value", ex);
     }
+    return cast(value);
   }
 
   /**
@@ -194,12 +287,15 @@ public class JDBCDecoderImpl implements JDBCDecoder {
    * @see JDBCTypeWrapper#isNumberType()
    */
   protected Object decodeNumber(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
-    try {
-      return cast(valueProvider.apply(descriptor.jdbcTypeWrapper().vendorTypeClass()));
-    } catch (SQLException e) {
-      LOG.debug("Error when convert SQL number", e);
-      return cast(valueProvider.apply(null));
+    if ((descriptor.decodeHints() & HINT_NUMBER_AS_OBJECT) == 0) {
+      try {
+        return cast(valueProvider.apply(descriptor.jdbcTypeWrapper().vendorTypeClass()));
+      } catch (SQLException e) {
+        LOG.debug("Error when convert SQL number", e);
+        descriptor.addDecodeHint(HINT_NUMBER_AS_OBJECT);
+      }
     }
+    return cast(valueProvider.apply(null));
   }
 
   /**
@@ -210,7 +306,7 @@ public class JDBCDecoderImpl implements JDBCDecoder {
    * @see JDBCTypeWrapper#isBinaryType()
    */
   protected Object decodeBinary(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
-    Object v = getCoerceObject(valueProvider, descriptor.jdbcTypeWrapper().vendorTypeClass());
+    Object v = getCoerceObject(valueProvider, descriptor);
     return v instanceof byte[] ? Buffer.buffer((byte[]) v) : cast(v);
   }
 
@@ -221,7 +317,7 @@ public class JDBCDecoderImpl implements JDBCDecoder {
    * {@link Struct}
    */
   protected Object decodeStruct(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
-    Object v = getCoerceObject(valueProvider, descriptor.jdbcTypeWrapper().vendorTypeClass());
+    Object v = getCoerceObject(valueProvider, descriptor);
     if (v instanceof Struct) {
       return cast(v);
     }
@@ -234,7 +330,7 @@ public class JDBCDecoderImpl implements JDBCDecoder {
    * Keep value as it is if the actual value's type is not {@code URL} or {@code String}
    */
   protected Object decodeLink(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
-    Object v = getCoerceObject(valueProvider, descriptor.jdbcTypeWrapper().vendorTypeClass());
+    Object v = getCoerceObject(valueProvider, descriptor);
     if (v instanceof URL) {
       return v;
     }
@@ -255,7 +351,7 @@ public class JDBCDecoderImpl implements JDBCDecoder {
    * {@link SQLXML}
    */
   protected Object decodeXML(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
-    Object v = getCoerceObject(valueProvider, descriptor.jdbcTypeWrapper().vendorTypeClass());
+    Object v = getCoerceObject(valueProvider, descriptor);
     if (v instanceof SQLXML) {
       return streamToBuffer(((SQLXML) v).getBinaryStream(), descriptor.jdbcTypeWrapper().vendorTypeClass());
     }
@@ -294,6 +390,10 @@ public class JDBCDecoderImpl implements JDBCDecoder {
     try {
       Object arr = value.getArray();
       if (arr != null) {
+        Object fast = decodeSimpleArray(arr, baseType);
+        if (fast != null) {
+          return fast;
+        }
         int len = java.lang.reflect.Array.getLength(arr);
         Object[] castedArray = new Object[len];
         for (int i = 0; i < len; i++) {
@@ -308,6 +408,82 @@ public class JDBCDecoderImpl implements JDBCDecoder {
     }
   }
 
+  /**
+   * Decode without per element dispatch the arrays of numbers, strings and booleans, whose elements are returned as
+   * they are by {@link #decode(JDBCColumnDescriptor, SQLValueProvider)}. Primitive arrays are boxed.
+   *
+   * @return the decoded array or {@code null} when the array must be decoded element per element
+   */
+  private static Object decodeSimpleArray(Object arr, JDBCColumnDescriptor baseType) {
+    JDBCTypeWrapper wrapper = baseType.jdbcTypeWrapper();
+    JDBCType type = baseType.jdbcType();
+    // the column descriptor of an array column decodes the elements with cast
+    boolean any = baseType.isArray();
+    if (any || wrapper.isNumberType()) {
+      if (arr instanceof Integer[] || arr instanceof Long[] || arr instanceof Short[] || arr instanceof Byte[] ||
+        arr instanceof Double[] || arr instanceof Float[] || arr instanceof BigDecimal[]) {
+        return arr;
+      }
+      if (arr instanceof int[]) {
+        int[] src = (int[]) arr;
+        Integer[] dst = new Integer[src.length];
+        for (int i = 0; i < src.length; i++) {
+          dst[i] = src[i];
+        }
+        return dst;
+      }
+      if (arr instanceof long[]) {
+        long[] src = (long[]) arr;
+        Long[] dst = new Long[src.length];
+        for (int i = 0; i < src.length; i++) {
+          dst[i] = src[i];
+        }
+        return dst;
+      }
+      if (arr instanceof double[]) {
+        double[] src = (double[]) arr;
+        Double[] dst = new Double[src.length];
+        for (int i = 0; i < src.length; i++) {
+          dst[i] = src[i];
+        }
+        return dst;
+      }
+      if (arr instanceof float[]) {
+        float[] src = (float[]) arr;
+        Float[] dst = new Float[src.length];
+        for (int i = 0; i < src.length; i++) {
+          dst[i] = src[i];
+        }
+        return dst;
+      }
+      if (arr instanceof short[]) {
+        short[] src = (short[]) arr;
+        Short[] dst = new Short[src.length];
+        for (int i = 0; i < src.length; i++) {
+          dst[i] = src[i];
+        }
+        return dst;
+      }
+    }
+    if ((any || wrapper.isStringType()) && arr instanceof String[]) {
+      return arr;
+    }
+    if (any || type == JDBCType.BIT || type == JDBCType.BOOLEAN) {
+      if (arr instanceof Boolean[]) {
+        return arr;
+      }
+      if (arr instanceof boolean[]) {
+        boolean[] src = (boolean[]) arr;
+        Boolean[] dst = new Boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+          dst[i] = src[i];
+        }
+        return dst;
+      }
+    }
+    return null;
+  }
+
   protected Object getCoerceObject(SQLValueProvider valueProvider, Class<?> cls) throws SQLException {
     try {
       return valueProvider.apply(null);
@@ -316,10 +492,36 @@ public class JDBCDecoderImpl implements JDBCDecoder {
     }
   }
 
+  /**
+   * Same as {@link #getCoerceObject(SQLValueProvider, Class)} with the class mapped to the column, the column
+   * remembers when the value cannot be read without the class so the next values are read with it directly.
+   */
+  protected Object getCoerceObject(SQLValueProvider valueProvider, JDBCColumnDescriptor descriptor) throws SQLException {
+    Class<?> cls = descriptor.jdbcTypeWrapper().vendorTypeClass();
+    if ((descriptor.decodeHints() & HINT_READ_WITH_CLASS) != 0) {
+      return valueProvider.apply(cls);
+    }
+    try {
+      return valueProvider.apply(null);
+    } catch (SQLException e) {
+      descriptor.addDecodeHint(HINT_READ_WITH_CLASS);
+      return valueProvider.apply(cls);
+    }
+  }
+
   protected Buffer streamToBuffer(InputStream is, Class<?> dataTypeClass) throws SQLException {
+    return streamToBuffer(is, dataTypeClass, -1L);
+  }
+
+  /**
+   * Read a binary stream into a buffer.
+   *
+   * @param sizeHint the expected length of the content or {@code -1} when it is unknown, used to size the buffer
+   */
+  protected Buffer streamToBuffer(InputStream is, Class<?> dataTypeClass, long sizeHint) throws SQLException {
     try (InputStream in = is) {
-      Buffer buffer = Buffer.buffer(1024);
-      byte[] buf = new byte[1024];
+      Buffer buffer = Buffer.buffer(initialCapacity(sizeHint));
+      byte[] buf = BYTE_TRANSFER_BUFFER.get();
       int l;
       while ((l = in.read(buf)) > -1) {
         buffer.appendBytes(buf, 0, l);
@@ -331,9 +533,18 @@ public class JDBCDecoderImpl implements JDBCDecoder {
   }
 
   protected String readerToString(Reader reader, Class<?> dataTypeClass) throws SQLException {
+    return readerToString(reader, dataTypeClass, -1L);
+  }
+
+  /**
+   * Read a character stream into a string.
+   *
+   * @param sizeHint the expected length of the content or {@code -1} when it is unknown, used to size the buffer
+   */
+  protected String readerToString(Reader reader, Class<?> dataTypeClass, long sizeHint) throws SQLException {
     try (Reader in = reader) {
-      StringBuilder buffer = new StringBuilder();
-      char[] buf = new char[1024];
+      StringBuilder buffer = new StringBuilder(initialCapacity(sizeHint));
+      char[] buf = CHAR_TRANSFER_BUFFER.get();
       int l;
       while ((l = in.read(buf)) > -1) {
         buffer.append(buf, 0, l);
@@ -344,4 +555,12 @@ public class JDBCDecoderImpl implements JDBCDecoder {
     }
   }
 
+  private static int initialCapacity(long sizeHint) {
+    if (sizeHint < 0L) {
+      return 1024;
+    }
+    // the reported length may be wrong, the buffer still grows when needed
+    return (int) Math.min(sizeHint, Integer.MAX_VALUE - 8);
+  }
+
 }
@@ -7,6 +7,7 @@ module io.vertx.sql.client.jdbc {
   requires io.vertx.core;
   requires io.vertx.core.logging;
   requires io.vertx.sql.client;
+  requires io.netty.buffer;
   requires java.sql;
 
   exports io.vertx.jdbcclient;
@@ -14,5 +15,6 @@ module io.vertx.sql.client.jdbc {
 
   uses io.vertx.jdbcclient.spi.JDBCEncoder;
   uses io.vertx.jdbcclient.spi.JDBCDecoder;
+  uses io.vertx.jdbcclient.spi.JDBCBulkLoader;
 
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Future;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCBatcherTest extends ClientTestBase {
+
+  private static final String INSERT = "INSERT INTO insert_table2 (id, lname, fname, dob) VALUES (?, ?, ?, NULL)";
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  @Test
+  public void testCoalesce(TestContext should) {
+    JDBCBatcher batcher = JDBCBatcher.create(vertx, client, new JDBCBatchingOptions().setMaxBatchSize(16).setMaxDelay(50));
+    int n = 40;
+    List<Future<Integer>> inserts = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      inserts.add(batcher.execute(INSERT, Tuple.of(i, "doe", "john")));
+    }
+    Future.all(inserts)
+      .compose(v -> client
+        .query("SELECT COUNT(*) FROM insert_table2")
+        .execute())
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        for (Future<Integer> insert : inserts) {
+          should.assertEquals(1, insert.result());
+        }
+        should.assertEquals(n, rows.iterator().next().getInteger(0));
+      }));
+  }
+
+  @Test
+  public void testFailureIsIsolated(TestContext should) {
+    JDBCBatcher batcher = JDBCBatcher.create(vertx, client, new JDBCBatchingOptions().setMaxDelay(50));
+    Future<Integer> first = batcher.execute(INSERT, Tuple.of(1, "doe", "john"));
+    // id is not nullable
+    Future<Integer> broken = batcher.execute(INSERT, Tuple.of(null, "doe", "jane"));
+    Future<Integer> last = batcher.execute(INSERT, Tuple.of(2, "doe", "jim"));
+    batcher.flush()
+      .compose(v -> Future.join(first, broken, last).otherwiseEmpty())
+      .compose(v -> client
+        .query("SELECT COUNT(*) FROM insert_table2")
+        .execute())
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(1, first.result());
+        should.assertTrue(broken.failed());
+        should.assertEquals(1, last.result());
+        should.assertEquals(2, rows.iterator().next().getInteger(0));
+      }));
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.jdbcclient.spi.JDBCBatchInsertLoader;
+import io.vertx.jdbcclient.spi.JDBCEncoderImpl;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCBulkLoadTest extends ClientTestBase {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  /**
+   * Emits {@code size} rows, honoring the demand of the consumer.
+   */
+  private static class TupleStream implements ReadStream<Tuple> {
+
+    private final Context context;
+    private final int size;
+    private final int failAt;
+    private Handler<Tuple> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private long demand = Long.MAX_VALUE;
+    private int emitted;
+    private boolean scheduled;
+
+    TupleStream(Context context, int size, int failAt) {
+      this.context = context;
+      this.size = size;
+      this.failAt = failAt;
+    }
+
+    private void schedule() {
+      if (!scheduled && handler != null) {
+        scheduled = true;
+        context.runOnContext(v -> emit());
+      }
+    }
+
+    private void emit() {
+      scheduled = false;
+      while (demand > 0 && emitted < size && handler != null) {
+        if (emitted == failAt) {
+          exceptionHandler.handle(new Exception("Broken stream"));
+          return;
+        }
+        int id = ++emitted;
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        handler.handle(Tuple.of(id, "doe", "user" + id));
+      }
+      if (emitted == size && endHandler != null) {
+        Handler<Void> h = endHandler;
+        endHandler = null;
+        h.handle(null);
+      }
+    }
+
+    @Override
+    public ReadStream<Tuple> exceptionHandler(Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> handler(Handler<Tuple> handler) {
+      this.handler = handler;
+      schedule();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> pause() {
+      demand = 0;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> resume() {
+      return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Tuple> fetch(long amount) {
+      demand += amount;
+      if (demand < 0) {
+        demand = Long.MAX_VALUE;
+      }
+      schedule();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> endHandler(Handler<Void> handler) {
+      endHandler = handler;
+      return this;
+    }
+  }
+
+  @Test
+  public void testBulkLoad(TestContext should) {
+    Context context = vertx.getOrCreateContext();
+    JDBCPool
+      .bulkLoad(client, "insert_table2", Arrays.asList("id", "lname", "fname"), new TupleStream(context, 2500, -1))
+      .compose(count -> {
+        should.assertEquals(2500L, count);
+        return client.query("SELECT COUNT(*), MAX(id) FROM insert_table2").execute();
+      })
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(2500L, rows.iterator().next().getLong(0));
+        should.assertEquals(2500, rows.iterator().next().getInteger(1));
+      }));
+  }
+
+  @Test
+  public void testStreamFailureRollsBack(TestContext should) {
+    Context context = vertx.getOrCreateContext();
+    JDBCPool
+      .bulkLoad(client, "insert_table2", Arrays.asList("id", "lname", "fname"), new TupleStream(context, 2500, 1500))
+      .recover(err -> client
+        .query("SELECT COUNT(*) FROM insert_table2")
+        .execute()
+        .map(rows -> rows.iterator().next().getLong(0)))
+      .onComplete(should.asyncAssertSuccess(count -> should.assertEquals(0L, count)));
+  }
+
+  @Test
+  public void testValuesBoundLikeStatementParameters() throws Exception {
+    Instant dob = Instant.parse("2001-01-01T12:00:00Z");
+    try (Connection conn = DriverManager.getConnection(connectOptions().getJdbcUrl())) {
+      long count = new JDBCBatchInsertLoader().load(conn, new JDBCEncoderImpl(), "insert_table2",
+        Arrays.asList("id", "lname", "fname", "dob"), Collections.singletonList(Tuple.of(1, "doe", "john", dob)).iterator());
+      assertEquals(1L, count);
+      try (ResultSet rs = conn.createStatement().executeQuery("SELECT dob FROM insert_table2")) {
+        assertTrue(rs.next());
+        // an Instant is bound as a timestamp, as a statement parameter would be
+        LocalDate expected = Timestamp.from(dob).toLocalDateTime().toLocalDate();
+        assertEquals(expected, rs.getDate(1).toLocalDate());
+      }
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCExportTest extends ClientTestBase {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  private Future<String> export(String sql, Tuple params, JDBCExportOptions options) {
+    String path = vertx.fileSystem().createTempFileBlocking("export", ".txt");
+    return vertx.fileSystem()
+      .open(path, new OpenOptions().setWrite(true).setTruncateExisting(true))
+      .compose(file -> {
+        file.setWriteQueueMaxSize(64);
+        return JDBCPool
+          .export(client, sql, params, file, options)
+          .compose(count -> file.close());
+      })
+      .compose(v -> vertx.fileSystem().readFile(path))
+      .map(Buffer::toString);
+  }
+
+  @Test
+  public void testCsv(TestContext should) {
+    export("SELECT id, lname, fname FROM select_table WHERE lname = ? ORDER BY id", Tuple.of("doe"), new JDBCExportOptions())
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals("ID,LNAME,FNAME\r\n1,doe,john\r\n2,doe,jane\r\n", content)));
+  }
+
+  @Test
+  public void testNdjson(TestContext should) {
+    export("SELECT id, fname FROM select_table ORDER BY id", Tuple.tuple(), new JDBCExportOptions().setFormat(JDBCExportFormat.NDJSON))
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals("{\"ID\":1,\"FNAME\":\"john\"}\n{\"ID\":2,\"FNAME\":\"jane\"}\n", content)));
+  }
+
+  @Test
+  public void testCsvQuoting(TestContext should) {
+    client
+      .preparedQuery("INSERT INTO insert_table2 (id, lname, fname) VALUES (?, ?, ?)")
+      .execute(Tuple.of(1, "a \"quoted\", value", null))
+      .compose(v -> export("SELECT lname, fname FROM insert_table2", Tuple.tuple(), new JDBCExportOptions().setHeader(false)))
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals("\"a \"\"quoted\"\", value\",\r\n", content)));
+  }
+
+  @Test
+  public void testThrottledExport(TestContext should) {
+    int rows = 2000;
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 0; i < rows; i++) {
+      batch.add(Tuple.of(i, "doe", "user" + i));
+    }
+    client
+      .preparedQuery("INSERT INTO insert_table2 (id, lname, fname) VALUES (?, ?, ?)")
+      .executeBatch(batch)
+      .compose(v -> export("SELECT id, fname FROM insert_table2 ORDER BY id", Tuple.tuple(), new JDBCExportOptions()
+        .setHeader(false)
+        .setFetchSize(50)
+        .setBufferSize(128)))
+      .onComplete(should.asyncAssertSuccess(content -> {
+        String[] lines = content.split("\r\n");
+        should.assertEquals(rows, lines.length);
+        should.assertEquals("1999,user1999", lines[rows - 1]);
+      }));
+  }
+
+  @Test
+  public void testDestinationNeverDrains(TestContext should) {
+    // e.g. the response of a disconnected HTTP client
+    WriteStream<Buffer> destination = new WriteStream<Buffer>() {
+      @Override
+      public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+        return this;
+      }
+      @Override
+      public Future<Void> write(Buffer data) {
+        return Future.succeededFuture();
+      }
+      @Override
+      public Future<Void> end() {
+        return Future.succeededFuture();
+      }
+      @Override
+      public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+        return this;
+      }
+      @Override
+      public boolean writeQueueFull() {
+        return true;
+      }
+      @Override
+      public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+        return this;
+      }
+    };
+    JDBCPool
+      .export(client, "SELECT id, fname FROM select_table ORDER BY id", Tuple.tuple(), destination, new JDBCExportOptions()
+        .setBufferSize(1)
+        .setWriteTimeout(200))
+      .onComplete(should.asyncAssertFailure());
+  }
+}
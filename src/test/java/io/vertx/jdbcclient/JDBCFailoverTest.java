@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCFailoverTest extends ClientTestBase {
+
+  private Pool pool;
+  private final CountDownLatch hung = new CountDownLatch(1);
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  @After
+  public void closePool(TestContext should) {
+    hung.countDown();
+    if (pool != null) {
+      pool.close().onComplete(should.asyncAssertSuccess());
+    }
+  }
+
+  private DataSource available() {
+    JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setURL(connectOptions().getJdbcUrl());
+    dataSource.setUser("");
+    dataSource.setPassword("");
+    return dataSource;
+  }
+
+  private static DataSource unavailable(AtomicInteger attempts) {
+    return new JDBCDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        attempts.incrementAndGet();
+        throw new SQLException("Database is down");
+      }
+    };
+  }
+
+  private DataSource hanging() {
+    return new JDBCDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        try {
+          hung.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        throw new SQLException("Database is down");
+      }
+    };
+  }
+
+  @Test
+  public void testFailover(TestContext should) {
+    pool = JDBCPool.pool(vertx, Arrays.asList(
+      new JDBCConnectOptions().setJdbcUrl("jdbc:unknown:primary"),
+      connectOptions()), new PoolOptions().setMaxSize(1));
+    pool
+      .query("SELECT * FROM select_table")
+      .execute()
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(2, rows.size())));
+  }
+
+  @Test
+  public void testOpenCircuitIsSkipped(TestContext should) {
+    AtomicInteger attempts = new AtomicInteger();
+    pool = JDBCPool.pool(vertx, Arrays.asList(unavailable(attempts), available()),
+      new JDBCConnectOptions().setCircuitBreakerInitialBackoff(60_000), new PoolOptions().setMaxSize(2));
+    pool
+      .withConnection(conn1 -> pool.withConnection(conn2 -> conn2.query("SELECT * FROM select_table").execute()))
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(2, rows.size());
+        // the second connection did not try the failed endpoint
+        should.assertEquals(1, attempts.get());
+      }));
+  }
+
+  @Test
+  public void testAllEndpointsUnavailable(TestContext should) {
+    AtomicInteger attempts = new AtomicInteger();
+    pool = JDBCPool.pool(vertx, Arrays.asList(unavailable(attempts), unavailable(attempts)),
+      new JDBCConnectOptions(), new PoolOptions().setMaxSize(1));
+    pool
+      .query("SELECT 1 FROM (VALUES(0))")
+      .execute()
+      .onComplete(should.asyncAssertFailure(err -> should.assertEquals(2, attempts.get())));
+  }
+
+  @Test
+  public void testFailoverFromHangingEndpoint(TestContext should) {
+    int timeout = 500;
+    pool = JDBCPool.pool(vertx, Arrays.asList(hanging(), available()),
+      new JDBCConnectOptions().setConnectTimeout(timeout), new PoolOptions().setMaxSize(1));
+    long start = System.currentTimeMillis();
+    pool
+      .query("SELECT * FROM select_table")
+      .execute()
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(2, rows.size());
+        // the attempt on the second endpoint did not wait for the hanging one
+        long elapsed = System.currentTimeMillis() - start;
+        should.assertTrue(elapsed < 3 * timeout, "Failover took " + elapsed + "ms");
+      }));
+  }
+}
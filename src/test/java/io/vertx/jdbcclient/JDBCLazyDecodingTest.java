@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.time.LocalDate;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCLazyDecodingTest extends ClientTestBase {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  @Override
+  protected JDBCConnectOptions connectOptions() {
+    return super.connectOptions().setLazyDecoding(true);
+  }
+
+  @Test
+  public void testReadRows(TestContext should) {
+    client
+      .preparedQuery("INSERT INTO insert_table2 (id, lname, fname, dob) VALUES (?, ?, ?, ?)")
+      .execute(Tuple.of(1, "doe", null, LocalDate.of(2002, 2, 2)))
+      .compose(v -> client.query("SELECT id, lname, fname, dob FROM insert_table2").execute())
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(1, rows.size());
+        Row row = rows.iterator().next();
+        should.assertEquals(4, row.size());
+        should.assertEquals(LocalDate.of(2002, 2, 2), row.getValue(3));
+        should.assertEquals(1, row.getInteger(0));
+        should.assertEquals("doe", row.getString("LNAME"));
+        should.assertNull(row.getValue(2));
+        // the decoded value is kept
+        should.assertSame(row.getValue(3), row.getValue(3));
+      }));
+  }
+
+  @Test
+  public void testSetValueBeforeAccess(TestContext should) {
+    client
+      .query("SELECT id, fname FROM select_table ORDER BY id")
+      .execute()
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        Row row = rows.iterator().next();
+        row.setValue(1, "bob");
+        should.assertEquals("bob", row.getString(1));
+        should.assertEquals(1, row.getInteger(0));
+      }));
+  }
+}
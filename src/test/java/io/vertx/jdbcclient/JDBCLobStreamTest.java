@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCLobStreamTest extends ClientTestBase {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  @Override
+  protected JDBCConnectOptions connectOptions() {
+    return super.connectOptions().setLobInlineThreshold(8);
+  }
+
+  private static Future<Buffer> readAll(ReadStream<Buffer> stream) {
+    Promise<Buffer> promise = Promise.promise();
+    Buffer content = Buffer.buffer();
+    stream
+      .exceptionHandler(promise::tryFail)
+      .endHandler(v -> promise.tryComplete(content))
+      .handler(content::appendBuffer);
+    return promise.future();
+  }
+
+  @Test
+  public void testStreamBlob(TestContext should) {
+    Buffer expected = vertx.fileSystem().readFileBlocking("pom.xml");
+    client
+      .withConnection(conn -> conn
+        .query("SELECT b FROM blob_table")
+        .execute()
+        .compose(rows -> {
+          Row row = rows.iterator().next();
+          SqlLob lob = (SqlLob) row.getValue(0);
+          should.assertFalse(lob.isCharacter());
+          should.assertEquals((long) expected.length(), lob.length());
+          return readAll(lob.stream());
+        }))
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals(expected, content)));
+  }
+
+  @Test
+  public void testStreamClob(TestContext should) {
+    client
+      .withConnection(conn -> conn
+        .query("SELECT c FROM blob_table")
+        .execute()
+        .compose(rows -> {
+          SqlLob lob = (SqlLob) rows.iterator().next().getValue(0);
+          should.assertTrue(lob.isCharacter());
+          return readAll(lob.stream());
+        }))
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals("こんにちは世界 🌍 Ñoño", content.toString())));
+  }
+
+  @Test
+  public void testWriteStreamedBlob(TestContext should) {
+    Buffer expected = vertx.fileSystem().readFileBlocking("pom.xml");
+    client
+      .withConnection(conn -> conn
+        .query("DELETE FROM blob_table")
+        .execute()
+        .compose(v -> vertx.fileSystem().open("pom.xml", new OpenOptions().setRead(true)))
+        .compose(file -> conn
+          .preparedQuery("INSERT INTO blob_table (b) VALUES (?)")
+          .execute(Tuple.of(SqlLobParam.BLOB(file, expected.length()))))
+        .compose(v -> conn
+          .query("SELECT b FROM blob_table")
+          .execute())
+        .compose(rows -> readAll(((SqlLob) rows.iterator().next().getValue(0)).stream())))
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals(expected, content)));
+  }
+
+  @Test
+  public void testWriteStreamedClob(TestContext should) {
+    String expected = "こんにちは世界 🌍 Ñoño";
+    String path = vertx.fileSystem().createTempFileBlocking("clob", ".txt");
+    vertx.fileSystem().writeFileBlocking(path, Buffer.buffer(expected));
+    client
+      .withConnection(conn -> conn
+        .query("DELETE FROM blob_table")
+        .execute()
+        .compose(v -> vertx.fileSystem().open(path, new OpenOptions().setRead(true)))
+        .compose(file -> conn
+          .preparedQuery("INSERT INTO blob_table (c) VALUES (?)")
+          .execute(Tuple.of(SqlLobParam.CLOB(file))))
+        .compose(v -> conn
+          .query("SELECT c FROM blob_table")
+          .execute())
+        .compose(rows -> readAll(((SqlLob) rows.iterator().next().getValue(0)).stream())))
+      .onComplete(should.asyncAssertSuccess(content -> should.assertEquals(expected, content.toString())));
+  }
+
+  @Test
+  public void testWriteStreamedParamCreatedOffContext(TestContext should) {
+    String expected = "hello";
+    String path = vertx.fileSystem().createTempFileBlocking("clob", ".txt");
+    vertx.fileSystem().writeFileBlocking(path, Buffer.buffer(expected));
+    AsyncFile file = vertx.fileSystem().openBlocking(path, new OpenOptions().setRead(true));
+    AtomicBoolean onContext = new AtomicBoolean(true);
+    // created on the test thread, the stream is consumed on the context of the connection
+    SqlLobParam param = SqlLobParam.CLOB(new ReadStream<Buffer>() {
+      @Override
+      public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+        file.exceptionHandler(handler);
+        return this;
+      }
+      @Override
+      public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+        if (!Context.isOnEventLoopThread()) {
+          onContext.set(false);
+        }
+        file.handler(handler);
+        return this;
+      }
+      @Override
+      public ReadStream<Buffer> pause() {
+        file.pause();
+        return this;
+      }
+      @Override
+      public ReadStream<Buffer> resume() {
+        file.resume();
+        return this;
+      }
+      @Override
+      public ReadStream<Buffer> fetch(long amount) {
+        file.fetch(amount);
+        return this;
+      }
+      @Override
+      public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+        file.endHandler(endHandler);
+        return this;
+      }
+    });
+    client
+      .withConnection(conn -> conn
+        .query("DELETE FROM blob_table")
+        .execute()
+        .compose(v -> conn
+          .preparedQuery("INSERT INTO blob_table (c) VALUES (?)")
+          .execute(Tuple.of(param)))
+        .compose(v -> conn
+          .query("SELECT c FROM blob_table")
+          .execute())
+        .compose(rows -> readAll(((SqlLob) rows.iterator().next().getValue(0)).stream())))
+      .onComplete(should.asyncAssertSuccess(content -> {
+        should.assertEquals(expected, content.toString());
+        should.assertTrue(onContext.get());
+      }));
+  }
+}
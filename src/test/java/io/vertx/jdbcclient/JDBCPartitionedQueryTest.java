@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCPartitionedQueryTest extends ClientTestBase {
+
+  private static final int ROWS = 20;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  @Override
+  protected PoolOptions poolOptions() {
+    return new PoolOptions().setMaxSize(4);
+  }
+
+  private Future<Void> insertRows() {
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 1; i <= ROWS; i++) {
+      batch.add(Tuple.of(i, "doe", "user" + i));
+    }
+    return client
+      .preparedQuery("INSERT INTO insert_table2 (id, lname, fname) VALUES (?, ?, ?)")
+      .executeBatch(batch)
+      .mapEmpty();
+  }
+
+  private static Future<List<Integer>> collect(RowStream<Row> stream) {
+    Promise<List<Integer>> promise = Promise.promise();
+    List<Integer> ids = new ArrayList<>();
+    stream
+      .exceptionHandler(promise::tryFail)
+      .endHandler(v -> promise.tryComplete(ids))
+      .handler(row -> ids.add(row.getInteger(0)));
+    return promise.future();
+  }
+
+  private static List<Integer> expected() {
+    List<Integer> ids = new ArrayList<>();
+    for (int i = 1; i <= ROWS; i++) {
+      ids.add(i);
+    }
+    return ids;
+  }
+
+  @Test
+  public void testUnordered(TestContext should) {
+    insertRows()
+      .compose(v -> collect(JDBCPool.partitionedQuery(vertx, client, "SELECT id FROM insert_table2 WHERE id BETWEEN ? AND ?",
+        Arrays.asList(Tuple.of(1, 5), Tuple.of(6, 10), Tuple.of(11, ROWS)), new JDBCPartitionOptions().setMaxConcurrency(2).setFetchSize(2))))
+      .onComplete(should.asyncAssertSuccess(ids -> {
+        Collections.sort(ids);
+        should.assertEquals(expected(), ids);
+      }));
+  }
+
+  @Test
+  public void testOrderedMerge(TestContext should) {
+    insertRows()
+      .compose(v -> collect(JDBCPool.partitionedQuery(vertx, client, "SELECT id FROM insert_table2 WHERE MOD(id, 3) = ? ORDER BY id",
+        Arrays.asList(Tuple.of(0), Tuple.of(1), Tuple.of(2)), new JDBCPartitionOptions().setSortColumn("id").setFetchSize(2))))
+      .onComplete(should.asyncAssertSuccess(ids -> should.assertEquals(expected(), ids)));
+  }
+
+  @Test
+  public void testPartitionFailure(TestContext should) {
+    collect(JDBCPool.partitionedQuery(vertx, client, "SELECT id FROM missing_table WHERE id = ?",
+      Arrays.asList(Tuple.of(1), Tuple.of(2)), new JDBCPartitionOptions()))
+      .onComplete(should.asyncAssertFailure());
+  }
+}
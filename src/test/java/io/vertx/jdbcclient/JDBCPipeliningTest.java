@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCPipeliningTest extends ClientTestBase {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  @Override
+  protected JDBCConnectOptions connectOptions() {
+    return super.connectOptions().setPipeliningLimit(16);
+  }
+
+  @Test
+  public void testPipelinedStatementsInTransaction(TestContext should) {
+    int n = 100;
+    client
+      .withTransaction(conn -> {
+        List<Future<RowSet<Row>>> inserts = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+          // do not wait for the previous statement
+          inserts.add(conn
+            .preparedQuery("INSERT INTO insert_table (lname, fname, dob) VALUES (?, ?, NULL)")
+            .execute(Tuple.of("doe", "john" + i)));
+        }
+        return Future.all(inserts);
+      })
+      .compose(v -> client
+        .query("SELECT fname FROM insert_table WHERE lname = 'doe' ORDER BY id")
+        .execute())
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(n, rows.size());
+        int i = 0;
+        for (Row row : rows) {
+          should.assertEquals("john" + i++, row.getString(0));
+        }
+      }));
+  }
+
+  @Test
+  public void testPipelinedFailureIsIsolated(TestContext should) {
+    client
+      .withConnection(conn -> {
+        Future<RowSet<Row>> first = conn.query("SELECT id FROM select_table").execute();
+        Future<RowSet<Row>> broken = conn.query("SELECT FROM WHERE").execute();
+        Future<RowSet<Row>> last = conn.query("SELECT id FROM select_table").execute();
+        return Future.join(first, broken, last)
+          .otherwise(err -> null)
+          .map(v -> {
+            should.assertTrue(first.succeeded());
+            should.assertTrue(broken.failed());
+            should.assertTrue(last.succeeded());
+            return last.result().size();
+          });
+      })
+      .onComplete(should.asyncAssertSuccess(size -> should.assertEquals(2, size)));
+  }
+
+  @Test
+  public void testPipelinedResultCompletesBeforeNextStatement(TestContext should) {
+    client
+      .withConnection(conn -> {
+        ReleasedStream content = new ReleasedStream();
+        Future<RowSet<Row>> first = conn.query("SELECT id FROM select_table").execute();
+        Future<RowSet<Row>> second = conn
+          .preparedQuery("INSERT INTO blob_table (c) VALUES (?)")
+          .execute(Tuple.of(SqlLobParam.CLOB(content)));
+        // the second statement waits for its content, only released once the first one has completed
+        first.onComplete(ar -> content.release());
+        return second.map(v -> first.result().size());
+      })
+      .onComplete(should.asyncAssertSuccess(size -> should.assertEquals(2, size)));
+  }
+
+  /**
+   * A stream emitting a single buffer once released.
+   */
+  private static class ReleasedStream implements ReadStream<Buffer> {
+
+    private Handler<Buffer> handler;
+    private Handler<Void> endHandler;
+    private boolean released;
+    private boolean emitted;
+
+    void release() {
+      released = true;
+      emit();
+    }
+
+    private void emit() {
+      if (released && !emitted && handler != null) {
+        emitted = true;
+        handler.handle(Buffer.buffer("released"));
+        if (endHandler != null) {
+          endHandler.handle(null);
+        }
+      }
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+      this.handler = handler;
+      emit();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+  }
+}
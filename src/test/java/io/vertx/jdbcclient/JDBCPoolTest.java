@@ -31,6 +31,7 @@ import org.junit.runner.RunWith;
 import java.sql.Connection;
 import java.sql.SQLSyntaxErrorException;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.Assert.assertNotNull;
@@ -311,6 +312,88 @@ public class JDBCPoolTest extends ClientTestBase {
       });
   }
 
+  @Test
+  public void testSharedColumnDescriptors(TestContext should) {
+    String sql = "SELECT id, fname FROM select_table";
+    client
+      .query(sql)
+      .execute()
+      .compose(first -> client
+        .query(sql)
+        .execute()
+        .onComplete(should.asyncAssertSuccess(second -> {
+          should.assertTrue(first.columnDescriptors().get(0) == second.columnDescriptors().get(0));
+          should.assertTrue(first.columnsNames().get(1) == second.columnsNames().get(1));
+        })))
+      .onComplete(should.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testInList(TestContext should) {
+    client
+      .preparedQuery("SELECT '?' AS q, fname FROM select_table WHERE id IN (?) AND lname = ? ORDER BY id")
+      .execute(Tuple.of(SqlInList.of(1, 2, 3), "doe"))
+      .compose(rows -> {
+        should.assertEquals(2, rows.size());
+        Iterator<Row> it = rows.iterator();
+        Row row = it.next();
+        should.assertEquals("?", row.getString(0));
+        should.assertEquals("john", row.getString(1));
+        should.assertEquals("jane", it.next().getString(1));
+        return client
+          .preparedQuery("SELECT fname FROM select_table WHERE id IN (?)")
+          .execute(Tuple.of(SqlInList.of(Arrays.asList())));
+      })
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(0, rows.size())));
+  }
+
+  @Test
+  public void testInsertArray(TestContext should) {
+    client
+      .query("DELETE FROM blob_table")
+      .execute()
+      .compose(v -> client
+        .preparedQuery("INSERT INTO blob_table (a) VALUES (?)")
+        .executeBatch(Arrays.asList(Tuple.of(Arrays.asList(4, 5, 6)), Tuple.of((Object) new int[]{7, 8}))))
+      .compose(v -> client.query("SELECT a FROM blob_table").execute())
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(2, rows.size());
+        Iterator<Row> it = rows.iterator();
+        should.assertTrue(Arrays.equals(new Integer[]{4, 5, 6}, it.next().getArrayOfIntegers(0)));
+        should.assertTrue(Arrays.equals(new Integer[]{7, 8}, it.next().getArrayOfIntegers(0)));
+      }));
+  }
+
+  @Test
+  public void testInsertBinary(TestContext should) {
+    Buffer small = Buffer.buffer(new byte[] { 0, 1, 2, 3 });
+    byte[] bytes = new byte[100 * 1024];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    // larger than the inline threshold, bound as a stream
+    Buffer large = Buffer.buffer(bytes);
+
+    client
+      .query("drop table if exists bin_table")
+      .execute()
+      .compose(v -> client
+        .query("create table bin_table (id int, b varbinary(200000))")
+        .execute())
+      .compose(v -> client
+        .preparedQuery("insert into bin_table (id, b) values (?, ?)")
+        .executeBatch(Arrays.asList(Tuple.of(1, small), Tuple.of(2, large))))
+      .compose(v -> client
+        .query("select b from bin_table order by id")
+        .execute())
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(2, rows.size());
+        Iterator<Row> it = rows.iterator();
+        should.assertEquals(small, it.next().getBuffer(0));
+        should.assertEquals(large, it.next().getBuffer(0));
+      }));
+  }
+
   @Test
   public void testBatchPreparedStatement(TestContext ctx) {
     client
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Promise;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Tuple;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCReadWritePoolTest extends ClientTestBase {
+
+  static class Replica {
+  }
+
+  private final CountDownLatch hung = new CountDownLatch(1);
+  private Pool replica;
+  private JDBCReadWritePool pool;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+    // the replica only has one row, telling which database served a query
+    JDBCClientTestBase.resetDb(Replica.class, Arrays.asList(
+      "drop table if exists select_table;",
+      "create table select_table (id int, lname varchar(255), fname varchar(255) );",
+      "insert into select_table values (1, 'doe', 'replica');"));
+    replica = JDBCPool.pool(vertx, DataSourceConfigs.hsqldb(Replica.class), new PoolOptions().setMaxSize(1));
+  }
+
+  @After
+  public void closePool(TestContext should) {
+    hung.countDown();
+    if (pool != null) {
+      pool.close().onComplete(should.asyncAssertSuccess());
+    }
+  }
+
+  @Test
+  public void testRouting(TestContext should) {
+    pool = JDBCReadWritePool.create(vertx, client, Collections.singletonList(replica), new JDBCReadWriteOptions());
+    pool
+      .execute("SELECT fname FROM select_table", Tuple.tuple(), new JDBCPrepareOptions().setReadOnly(true))
+      .compose(rows -> {
+        should.assertEquals(1, rows.size());
+        should.assertEquals("replica", rows.iterator().next().getString(0));
+        return pool.execute("SELECT fname FROM select_table", Tuple.tuple(), new JDBCPrepareOptions());
+      })
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(2, rows.size())));
+  }
+
+  @Test
+  public void testUnhealthyReplica(TestContext should) {
+    pool = JDBCReadWritePool.create(vertx, client, Collections.singletonList(replica), new JDBCReadWriteOptions()
+      .setHealthCheckInterval(10)
+      .setHealthCheckQuery("SELECT * FROM missing_table"));
+    Promise<Void> checked = Promise.promise();
+    vertx.setTimer(200, id -> checked.complete());
+    checked.future()
+      .compose(v -> pool.withReplica(p -> p.query("SELECT fname FROM select_table").execute()))
+      // served by the primary
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(2, rows.size())));
+  }
+
+  @Test
+  public void testHungReplica(TestContext should) {
+    // connections to the replica never complete
+    Pool hanging = JDBCPool.pool(vertx, new JDBCDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        try {
+          hung.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        throw new SQLException("Replica is down");
+      }
+    }, new PoolOptions().setMaxSize(1));
+    pool = JDBCReadWritePool.create(vertx, client, Collections.singletonList(hanging), new JDBCReadWriteOptions()
+      .setHealthCheckInterval(10)
+      .setHealthCheckTimeout(1));
+    Promise<Void> checked = Promise.promise();
+    vertx.setTimer(1500, id -> checked.complete());
+    checked.future()
+      .compose(v -> pool.withReplica(p -> p.query("SELECT fname FROM select_table").execute()))
+      // the check timed out, served by the primary
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(2, rows.size())));
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(VertxUnitRunner.class)
+public class JDBCResultCacheTest extends ClientTestBase {
+
+  private static final String SELECT = "SELECT id, fname FROM select_table WHERE lname = ?";
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(getClass());
+  }
+
+  private Future<RowSet<Row>> select(JDBCPrepareOptions options) {
+    return client
+      .preparedQuery(SELECT, options)
+      .execute(Tuple.of("doe"));
+  }
+
+  private Future<RowSet<Row>> insert(int id) {
+    return client
+      .preparedQuery("INSERT INTO select_table VALUES (?, 'doe', 'jim')")
+      .execute(Tuple.of(id));
+  }
+
+  private Future<Void> sleep(long ms) {
+    Promise<Void> promise = Promise.promise();
+    vertx.setTimer(ms, id -> promise.complete());
+    return promise.future();
+  }
+
+  @Test
+  public void testCachedUntilTtl(TestContext should) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions().setCacheTtl(500);
+    select(options)
+      .compose(rows -> {
+        should.assertEquals(2, rows.size());
+        // no declared table, the cached result is not invalidated
+        return insert(3);
+      })
+      .compose(v -> select(options))
+      .compose(rows -> {
+        should.assertEquals(2, rows.size());
+        return sleep(600);
+      })
+      .compose(v -> select(options))
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(3, rows.size())));
+  }
+
+  @Test
+  public void testInvalidatedByDml(TestContext should) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions().setCacheTtl(60_000).addCacheTable("SELECT_TABLE");
+    select(options)
+      .compose(rows -> {
+        should.assertEquals(2, rows.size());
+        return insert(3);
+      })
+      .compose(v -> select(options))
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(3, rows.size());
+        should.assertEquals("FNAME", rows.columnsNames().get(1));
+      }));
+  }
+
+  @Test
+  public void testInvalidatedByDdl(TestContext should) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions().setCacheTtl(60_000);
+    select(options)
+      .compose(rows -> {
+        should.assertEquals(2, rows.size());
+        // no declared table, the cached result is not invalidated
+        return insert(3);
+      })
+      .compose(v -> select(options))
+      .compose(rows -> {
+        should.assertEquals(2, rows.size());
+        // a DDL statement may modify any table
+        return client.query("CREATE TABLE cache_ddl_table (id INT)").execute();
+      })
+      .compose(v -> client.query("DROP TABLE cache_ddl_table").execute())
+      .compose(v -> select(options))
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(3, rows.size())));
+  }
+
+  @Test
+  public void testNotCachedByDefault(TestContext should) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions();
+    select(options)
+      .compose(rows -> insert(3))
+      .compose(v -> select(options))
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(3, rows.size())));
+  }
+
+  @Test
+  public void testNotCachedInTransaction(TestContext should) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions().setCacheTtl(60_000).addCacheTable("select_table");
+    client
+      .getConnection()
+      .compose(conn -> conn
+        .begin()
+        .compose(tx -> conn
+          .preparedQuery("INSERT INTO select_table VALUES (?, 'doe', 'jim')")
+          .execute(Tuple.of(3))
+          .compose(v -> conn.preparedQuery(SELECT, options).execute(Tuple.of("doe")))
+          .compose(rows -> {
+            // the transaction reads its own changes
+            should.assertEquals(3, rows.size());
+            return tx.rollback();
+          }))
+        .eventually(conn::close))
+      // the uncommitted rows were not cached
+      .compose(v -> select(options))
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(2, rows.size())));
+  }
+
+  @Test
+  public void testCachedRowsAreReadOnly(TestContext should) {
+    JDBCPrepareOptions options = new JDBCPrepareOptions().setCacheTtl(60_000);
+    select(options)
+      .compose(rows -> {
+        // the rows of the first execution belong to the caller
+        rows.iterator().next().setValue(1, "changed");
+        return select(options);
+      })
+      .compose(rows -> {
+        Row row = rows.iterator().next();
+        should.assertEquals("john", row.getString(1));
+        try {
+          row.setValue(1, "changed");
+          should.fail("Cached rows should be read-only");
+        } catch (UnsupportedOperationException expected) {
+        }
+        return select(options);
+      })
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals("john", rows.iterator().next().getString(1))));
+  }
+}
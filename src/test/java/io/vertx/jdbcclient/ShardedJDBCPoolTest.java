@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.jdbcclient;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.ext.jdbc.JDBCClientTestBase;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(VertxUnitRunner.class)
+public class ShardedJDBCPoolTest extends ClientTestBase {
+
+  static class Shard0 {
+  }
+
+  static class Shard1 {
+  }
+
+  private ShardedJDBCPool pool;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    JDBCClientTestBase.resetDb(Shard0.class);
+    JDBCClientTestBase.resetDb(Shard1.class);
+    pool = ShardedJDBCPool.pool(vertx, Arrays.asList(DataSourceConfigs.hsqldb(Shard0.class), DataSourceConfigs.hsqldb(Shard1.class)),
+      new PoolOptions().setMaxSize(1), ShardRouter.byParameter(0));
+  }
+
+  @After
+  public void closePool(TestContext should) {
+    pool.close().onComplete(should.asyncAssertSuccess());
+  }
+
+  private Future<Void> insert(int... ids) {
+    Future<Void> fut = Future.succeededFuture();
+    for (int id : ids) {
+      fut = fut.compose(v -> pool
+        .execute("INSERT INTO insert_table2 (id, lname, fname) VALUES (?, ?, ?)", Tuple.of(id, "doe", "user" + id))
+        .mapEmpty());
+    }
+    return fut;
+  }
+
+  private static List<Integer> ids(Iterable<Row> rows) {
+    List<Integer> ids = new ArrayList<>();
+    rows.forEach(row -> ids.add(row.getInteger(0)));
+    Collections.sort(ids);
+    return ids;
+  }
+
+  @Test
+  public void testRouting(TestContext should) {
+    insert(1, 2, 3, 4)
+      .compose(v -> pool.shard(0).query("SELECT id FROM insert_table2").execute())
+      .compose(rows -> {
+        should.assertEquals(Arrays.asList(2, 4), ids(rows));
+        return pool.execute("SELECT fname FROM insert_table2 WHERE id = ?", Tuple.of(3));
+      })
+      .onComplete(should.asyncAssertSuccess(rows -> {
+        should.assertEquals(1, rows.size());
+        should.assertEquals("user3", rows.iterator().next().getString(0));
+      }));
+  }
+
+  @Test
+  public void testScatterGather(TestContext should) {
+    insert(1, 2, 3, 4, 5)
+      .compose(v -> pool.executeAll("SELECT id FROM insert_table2 WHERE lname = ?", Tuple.of("doe")))
+      .compose(rows -> {
+        should.assertEquals(5, rows.size());
+        should.assertEquals(Collections.singletonList("ID"), rows.columnsNames());
+        should.assertEquals(Arrays.asList(1, 2, 3, 4, 5), ids(rows));
+        // no database reports a count for a query
+        should.assertEquals(-1, rows.rowCount());
+        return pool.executeAll("UPDATE insert_table2 SET fname = ?", Tuple.of("updated"));
+      })
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(5, rows.rowCount())));
+  }
+
+  @Test
+  public void testScatterGatherCompletesOnCallerContext(TestContext should) {
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> pool
+      .executeAll("SELECT id FROM insert_table2", Tuple.tuple())
+      .onComplete(should.asyncAssertSuccess(rows -> should.assertEquals(context, vertx.getOrCreateContext()))));
+  }
+}
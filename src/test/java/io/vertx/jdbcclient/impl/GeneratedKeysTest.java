@@ -0,0 +1,82 @@
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCColumnDescriptor;
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.junit.Test;
+
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedKeysTest {
+
+  private static JDBCRowDesc desc(JDBCType... types) throws SQLException {
+    ColumnDescriptor[] descriptors = new ColumnDescriptor[types.length];
+    for (int i = 0; i < types.length; i++) {
+      JDBCType type = types[i];
+      descriptors[i] = JDBCColumnDescriptor.create(() -> "ID", type::getVendorTypeNumber, () -> null, () -> null);
+    }
+    return new JDBCRowDesc(descriptors);
+  }
+
+  @Test
+  public void testCompactKeys() throws SQLException {
+    GeneratedKeys keys = new GeneratedKeys(desc(JDBCType.INTEGER), true);
+    assertTrue(keys.isCompact());
+    for (long i = 1; i <= 100; i++) {
+      keys.add(i);
+    }
+    assertEquals(100, keys.size());
+    Row first = keys.first();
+    assertEquals(Integer.valueOf(1), first.getValue(0));
+    List<Row> rows = keys.rows();
+    assertEquals(100, rows.size());
+    assertSame(first, rows.get(0));
+    assertEquals(Integer.valueOf(100), rows.get(99).getValue(0));
+  }
+
+  @Test
+  public void testNullKeySwitchesToRows() throws SQLException {
+    JDBCRowDesc desc = desc(JDBCType.BIGINT);
+    GeneratedKeys keys = new GeneratedKeys(desc, true);
+    keys.add(1L);
+    JDBCRow row = new JDBCRow(desc);
+    row.addValue(null);
+    keys.add(row);
+    assertFalse(keys.isCompact());
+    assertEquals(2, keys.size());
+    assertEquals(Long.valueOf(1L), keys.rows().get(0).getValue(0));
+    assertNull(keys.rows().get(1).getValue(0));
+  }
+
+  @Test
+  public void testOutOfRangeKeySwitchesToRows() throws SQLException {
+    JDBCRowDesc desc = desc(JDBCType.INTEGER);
+    GeneratedKeys keys = new GeneratedKeys(desc, true);
+    assertTrue(keys.add(1L));
+    // e.g. an INT UNSIGNED key
+    assertFalse(keys.add(3_000_000_000L));
+    assertEquals(1, keys.size());
+    JDBCRow row = new JDBCRow(desc);
+    row.addValue(3_000_000_000L);
+    keys.add(row);
+    assertFalse(keys.isCompact());
+    assertEquals(Integer.valueOf(1), keys.rows().get(0).getValue(0));
+    assertEquals(Long.valueOf(3_000_000_000L), keys.rows().get(1).getValue(0));
+  }
+
+  @Test
+  public void testNonIntegralKeys() throws SQLException {
+    assertFalse(new GeneratedKeys(desc(JDBCType.VARCHAR), true).isCompact());
+    assertFalse(new GeneratedKeys(desc(JDBCType.INTEGER, JDBCType.INTEGER), true).isCompact());
+    assertFalse(new GeneratedKeys(desc(JDBCType.INTEGER), false).isCompact());
+  }
+}
@@ -0,0 +1,41 @@
+package io.vertx.jdbcclient.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCColumnDescriptor;
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.jdbcclient.spi.JDBCDecoderImpl;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+
+public class LazyRowTest {
+
+  private static LazyRow row(JDBCType type, Object raw) throws SQLException {
+    ColumnDescriptor[] descriptors = {
+      JDBCColumnDescriptor.create(() -> "V", type::getVendorTypeNumber, () -> null, () -> null)
+    };
+    LazyRow row = new LazyRow(new JDBCRowDesc(descriptors), new JDBCDecoderImpl());
+    row.addRaw(raw);
+    return row;
+  }
+
+  @Test
+  public void testInRange() throws SQLException {
+    assertEquals(42, row(JDBCType.INTEGER, 42L).getValue(0));
+    assertEquals(42L, row(JDBCType.BIGINT, new BigInteger("42")).getValue(0));
+    assertEquals(42, row(JDBCType.INTEGER, "42").getValue(0));
+  }
+
+  @Test
+  public void testOutOfRange() throws SQLException {
+    // e.g. an INT UNSIGNED value, the raw value is kept as the driver returned it
+    assertEquals(3_000_000_000L, row(JDBCType.INTEGER, 3_000_000_000L).getValue(0));
+    BigInteger unsigned = new BigInteger("18446744073709551615");
+    assertEquals(unsigned, row(JDBCType.BIGINT, unsigned).getValue(0));
+    assertEquals("1.5", row(JDBCType.INTEGER, "1.5").getValue(0));
+  }
+}
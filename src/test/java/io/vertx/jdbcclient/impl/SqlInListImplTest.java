@@ -0,0 +1,41 @@
+package io.vertx.jdbcclient.impl;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class SqlInListImplTest {
+
+  private static SqlInListImpl list(int size) {
+    return new SqlInListImpl(Collections.nCopies(size, 1));
+  }
+
+  @Test
+  public void testPadding() {
+    assertEquals(1, list(0).placeholders(1000));
+    assertEquals(1, list(1).placeholders(1000));
+    assertEquals(4, list(3).placeholders(1000));
+    assertEquals(512, list(512).placeholders(1000));
+  }
+
+  @Test
+  public void testPaddingLimit() {
+    assertEquals(1000, list(513).placeholders(1000));
+    assertEquals(1000, list(1000).placeholders(1000));
+    assertEquals(1001, list(1001).placeholders(1000));
+    assertEquals(3, list(3).placeholders(3));
+    assertEquals(5, list(5).placeholders(3));
+  }
+
+  @Test
+  public void testValue() {
+    SqlInListImpl list = new SqlInListImpl(Arrays.asList(1, 2));
+    assertEquals(1, list.value(0));
+    assertEquals(2, list.value(1));
+    assertEquals(2, list.value(3));
+    assertEquals(null, list(0).value(0));
+  }
+}
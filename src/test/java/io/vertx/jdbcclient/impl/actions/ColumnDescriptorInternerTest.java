@@ -0,0 +1,88 @@
+package io.vertx.jdbcclient.impl.actions;
+
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.JDBCType;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ColumnDescriptorInternerTest {
+
+  /**
+   * The metadata of a result set with a single column.
+   */
+  private static ResultSetMetaData metaData(String label, JDBCType type) {
+    return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[] { ResultSetMetaData.class }, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getColumnCount":
+          return 1;
+        case "getColumnLabel":
+          return new String(label);
+        case "getColumnType":
+          return type.getVendorTypeNumber();
+        case "getColumnTypeName":
+          return type.getName();
+        case "getColumnClassName":
+          return null;
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+
+  @Test
+  public void testIntern() {
+    ColumnDescriptorInterner interner = new ColumnDescriptorInterner(2);
+    String a = interner.intern(new String("a"));
+    assertSame(a, interner.intern(new String("a")));
+    assertNull(interner.intern(null));
+  }
+
+  @Test
+  public void testBounded() {
+    ColumnDescriptorInterner interner = new ColumnDescriptorInterner(2);
+    interner.intern("a");
+    interner.intern("b");
+    String c = new String("c");
+    assertSame(c, interner.intern(c));
+    assertNotSame(c, interner.intern(new String("c")));
+  }
+
+  @Test
+  public void testSharedDescriptors() throws SQLException {
+    ColumnDescriptorInterner interner = new ColumnDescriptorInterner();
+    JDBCColumnDescriptor descriptor = interner.provider(metaData("ID", JDBCType.INTEGER)).apply(1);
+    assertSame(descriptor, interner.provider(metaData("ID", JDBCType.INTEGER)).apply(1));
+    assertNotSame(descriptor, interner.provider(metaData("ID", JDBCType.BIGINT)).apply(1));
+  }
+
+  @Test
+  public void testDescriptorsBounded() throws SQLException {
+    ColumnDescriptorInterner interner = new ColumnDescriptorInterner(2);
+    interner.provider(metaData("A", JDBCType.INTEGER)).apply(1);
+    interner.provider(metaData("B", JDBCType.INTEGER)).apply(1);
+    JDBCColumnDescriptorProvider provider = interner.provider(metaData("C", JDBCType.INTEGER));
+    JDBCColumnDescriptor c = provider.apply(1);
+    assertEquals("C", c.name());
+    // the table is full, a new descriptor is created each time
+    assertNotSame(c, provider.apply(1));
+  }
+
+  @Test
+  public void testSharedDescriptorsIgnoreHints() throws SQLException {
+    ColumnDescriptorInterner interner = new ColumnDescriptorInterner();
+    JDBCColumnDescriptor descriptor = interner.provider(metaData("ID", JDBCType.INTEGER)).apply(1);
+    descriptor.addDecodeHint(1);
+    assertEquals(0, descriptor.decodeHints());
+    JDBCColumnDescriptor copy = descriptor.copy();
+    copy.addDecodeHint(1);
+    assertEquals(1, copy.decodeHints());
+  }
+}
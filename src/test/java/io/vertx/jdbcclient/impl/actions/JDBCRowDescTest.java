@@ -0,0 +1,46 @@
+package io.vertx.jdbcclient.impl.actions;
+
+import io.vertx.jdbcclient.impl.JDBCRow;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.junit.Test;
+
+import java.sql.JDBCType;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+
+public class JDBCRowDescTest {
+
+  private static JDBCRowDesc desc(String... names) throws SQLException {
+    ColumnDescriptor[] descriptors = new ColumnDescriptor[names.length];
+    for (int i = 0; i < names.length; i++) {
+      String name = names[i];
+      descriptors[i] = JDBCColumnDescriptor.create(() -> name, JDBCType.VARCHAR::getVendorTypeNumber, () -> null,
+        () -> null);
+    }
+    return new JDBCRowDesc(descriptors);
+  }
+
+  @Test
+  public void testExactMatch() throws SQLException {
+    JDBCRowDesc desc = desc("ID", "LNAME", "FNAME");
+    assertEquals(0, desc.columnIndex("ID"));
+    assertEquals(2, desc.columnIndex("FNAME"));
+    assertEquals(-1, desc.columnIndex("DOB"));
+  }
+
+  @Test
+  public void testCaseInsensitiveMatch() throws SQLException {
+    JDBCRow row = new JDBCRow(desc("ID", "LNAME", "FNAME"));
+    assertEquals(1, row.getColumnIndex("lname"));
+    assertEquals(2, row.getColumnIndex("FName"));
+  }
+
+  @Test
+  public void testExactMatchFirst() throws SQLException {
+    JDBCRowDesc desc = desc("name", "NAME", "name");
+    assertEquals(0, desc.columnIndex("name"));
+    assertEquals(1, desc.columnIndex("NAME"));
+    assertEquals(0, desc.columnIndex("Name"));
+  }
+}
@@ -0,0 +1,53 @@
+package io.vertx.jdbcclient.impl.actions;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class JDBCStatementHelperTest {
+
+  private static JDBCColumnDescriptorProvider counting(JDBCType type, AtomicInteger resolved) {
+    return col -> {
+      resolved.incrementAndGet();
+      return JDBCColumnDescriptor.create(() -> null, type::getVendorTypeNumber, () -> null, () -> null);
+    };
+  }
+
+  @Test
+  public void testDescriptorResolvedOncePerParameter() throws SQLException {
+    List<String> calls = new ArrayList<>();
+    PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+      calls.add(method.getName());
+      return null;
+    });
+    AtomicInteger resolved = new AtomicInteger();
+    JDBCColumnDescriptorProvider provider = JDBCStatementHelper.memoize(counting(JDBCType.VARBINARY, resolved));
+    for (int i = 0; i < 3; i++) {
+      JDBCStatementHelper.bind(ps, 1, null, provider, Buffer.buffer("abc"));
+    }
+    assertEquals(1, resolved.get());
+    assertEquals(3, calls.size());
+    assertEquals("setBytes", calls.get(0));
+  }
+
+  @Test
+  public void testMemoize() throws SQLException {
+    AtomicInteger resolved = new AtomicInteger();
+    JDBCColumnDescriptorProvider provider = JDBCStatementHelper.memoize(counting(JDBCType.INTEGER, resolved));
+    JDBCColumnDescriptor first = provider.apply(1);
+    assertSame(first, provider.apply(1));
+    provider.apply(2);
+    assertEquals(2, resolved.get());
+  }
+}
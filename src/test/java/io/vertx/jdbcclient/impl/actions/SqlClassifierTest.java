@@ -0,0 +1,81 @@
+package io.vertx.jdbcclient.impl.actions;
+
+import io.vertx.jdbcclient.impl.actions.SqlClassifier.Kind;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SqlClassifierTest {
+
+  @Test
+  public void testLeadingKeyword() {
+    assertEquals(Kind.QUERY, SqlClassifier.classify("SELECT * FROM t"));
+    assertEquals(Kind.QUERY, SqlClassifier.classify("  (select 1) union (select 2)"));
+    assertEquals(Kind.INSERT, SqlClassifier.classify("insert into t values (?)"));
+    assertEquals(Kind.MERGE, SqlClassifier.classify("MERGE INTO t USING s ON t.id = s.id"));
+    assertEquals(Kind.UPDATE, SqlClassifier.classify("UPDATE t SET a = ?"));
+    assertEquals(Kind.DELETE, SqlClassifier.classify("DELETE FROM t"));
+    assertEquals(Kind.DDL, SqlClassifier.classify("CREATE TABLE t (id int)"));
+    assertEquals(Kind.CALL, SqlClassifier.classify("{call proc(?)}"));
+    assertEquals(Kind.OTHER, SqlClassifier.classify(""));
+  }
+
+  @Test
+  public void testCommentsAndLiterals() {
+    assertEquals(Kind.INSERT, SqlClassifier.classify("-- SELECT\n/* SELECT */ INSERT INTO t VALUES ('SELECT')"));
+    assertEquals(Kind.QUERY, SqlClassifier.classify("/* INSERT */ SELECT 'INSERT' FROM t"));
+  }
+
+  @Test
+  public void testCommonTableExpressions() {
+    assertEquals(Kind.QUERY, SqlClassifier.classify("WITH x AS (SELECT 1) SELECT * FROM x"));
+    assertEquals(Kind.INSERT, SqlClassifier.classify("WITH x(a) AS (SELECT 1), y AS (SELECT ')') INSERT INTO t SELECT a FROM x"));
+    assertEquals(Kind.DELETE, SqlClassifier.classify("WITH RECURSIVE x AS (SELECT 1) DELETE FROM t WHERE id IN (SELECT * FROM x)"));
+  }
+
+  @Test
+  public void testModifiedTable() {
+    assertEquals("t", SqlClassifier.modifiedTable("INSERT INTO t(a) VALUES (?)"));
+    assertEquals("s.\"T\"", SqlClassifier.modifiedTable("insert into s.\"T\" values (?)"));
+    assertEquals("[t]", SqlClassifier.modifiedTable("MERGE INTO [t] USING s ON t.id = s.id"));
+    assertEquals("t", SqlClassifier.modifiedTable("UPDATE /* x */ t SET a = ?"));
+    assertEquals("t", SqlClassifier.modifiedTable("DELETE FROM t WHERE id = ?"));
+    assertEquals("t", SqlClassifier.modifiedTable("DELETE t WHERE id = ?"));
+    assertEquals("t", SqlClassifier.modifiedTable("TRUNCATE TABLE t"));
+    assertEquals("t", SqlClassifier.modifiedTable("WITH x AS (SELECT 1) DELETE FROM t WHERE id IN (SELECT * FROM x)"));
+    assertNull(SqlClassifier.modifiedTable("/* UPDATE t */ SELECT * FROM t"));
+    assertNull(SqlClassifier.modifiedTable("SELECT 'DELETE FROM t'"));
+    assertNull(SqlClassifier.modifiedTable("CREATE TABLE t (id int)"));
+  }
+
+  @Test
+  public void testModifiedTableAfterModifiers() {
+    assertEquals("t", SqlClassifier.modifiedTable("INSERT IGNORE INTO t VALUES (?)"));
+    assertEquals("t", SqlClassifier.modifiedTable("INSERT LOW_PRIORITY IGNORE INTO t VALUES (?)"));
+    assertEquals("t", SqlClassifier.modifiedTable("UPDATE ONLY t SET a = ?"));
+    assertEquals("t", SqlClassifier.modifiedTable("UPDATE LOW_PRIORITY t SET a = ?"));
+    assertEquals("t", SqlClassifier.modifiedTable("DELETE FROM ONLY t"));
+    assertEquals("t", SqlClassifier.modifiedTable("DELETE QUICK FROM t"));
+    assertEquals("\"ONLY\"", SqlClassifier.modifiedTable("DELETE FROM \"ONLY\""));
+  }
+
+  @Test
+  public void testSkip() {
+    String sql = "  /* ? */ -- ?\n 'it''s ?' ? `?`";
+    int pos = SqlClassifier.skip(sql, 0);
+    assertEquals('?', sql.charAt(pos));
+    assertEquals(sql.length(), SqlClassifier.skip(sql, pos + 1));
+    assertEquals(pos, SqlClassifier.skip(sql, pos));
+  }
+
+  @Test
+  public void testMayGenerateKeys() {
+    assertFalse(SqlClassifier.mayGenerateKeys("SELECT * FROM t"));
+    assertFalse(SqlClassifier.mayGenerateKeys("DROP TABLE t"));
+    assertTrue(SqlClassifier.mayGenerateKeys("INSERT INTO t VALUES (?)"));
+    assertTrue(SqlClassifier.mayGenerateKeys("{call proc(?)}"));
+  }
+}
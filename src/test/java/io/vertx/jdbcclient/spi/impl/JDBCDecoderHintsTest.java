@@ -0,0 +1,109 @@
+package io.vertx.jdbcclient.spi.impl;
+
+import io.vertx.jdbcclient.impl.actions.JDBCColumnDescriptor;
+import io.vertx.jdbcclient.impl.actions.JDBCRowDesc;
+import io.vertx.jdbcclient.impl.actions.SQLValueProvider;
+import io.vertx.jdbcclient.spi.JDBCColumnDescriptorProvider;
+import io.vertx.jdbcclient.spi.JDBCDecoderImpl;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class JDBCDecoderHintsTest {
+
+  private final JDBCDecoderImpl decoder = new JDBCDecoderImpl();
+
+  /**
+   * A value provider whose driver cannot convert the value to a class.
+   */
+  private static SQLValueProvider untyped(Object value, AtomicInteger failures) {
+    return cls -> {
+      if (cls != null) {
+        failures.incrementAndGet();
+        throw new SQLException("Cannot convert to " + cls.getName());
+      }
+      return value;
+    };
+  }
+
+  @Test
+  public void testNumberColumnLearnsAccess() throws SQLException {
+    JDBCColumnDescriptor descriptor = JDBCColumnDescriptor.wrap(JDBCType.NUMERIC);
+    AtomicInteger failures = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      assertEquals(BigDecimal.TEN, decoder.decode(descriptor, untyped(BigDecimal.TEN, failures)));
+    }
+    assertEquals(1, failures.get());
+  }
+
+  @Test
+  public void testDateTimeColumnLearnsAccess() throws SQLException {
+    JDBCColumnDescriptor descriptor = JDBCColumnDescriptor.wrap(JDBCType.TIMESTAMP_WITH_TIMEZONE);
+    AtomicInteger failures = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      assertEquals(OffsetDateTime.parse("2016-03-16T15:00:00Z"),
+        decoder.decode(descriptor, untyped("2016-03-16T16:00:00+01:00", failures)));
+    }
+    assertEquals(1, failures.get());
+  }
+
+  @Test
+  public void testColumnLearnsReadWithClass() throws SQLException {
+    JDBCColumnDescriptor descriptor = JDBCColumnDescriptor.wrap(JDBCType.VARCHAR);
+    AtomicInteger failures = new AtomicInteger();
+    SQLValueProvider provider = cls -> {
+      if (cls == null) {
+        failures.incrementAndGet();
+        throw new SQLException("Cannot read without a class");
+      }
+      return "value";
+    };
+    for (int i = 0; i < 3; i++) {
+      assertEquals("value", decoder.decode(descriptor, provider));
+    }
+    assertEquals(1, failures.get());
+  }
+
+  @Test
+  public void testColumnLearnsTypedGetterFailure() throws SQLException {
+    JDBCColumnDescriptor descriptor = JDBCColumnDescriptor.wrap(JDBCType.INTEGER);
+    AtomicInteger failures = new AtomicInteger();
+    // e.g. an INT UNSIGNED column, the driver returns a Long
+    ResultSet rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+      if (method.getName().equals("getObject") && args.length == 1) {
+        return 3_000_000_000L;
+      }
+      failures.incrementAndGet();
+      throw new SQLException("Out of range");
+    });
+    for (int i = 0; i < 3; i++) {
+      assertEquals(3_000_000_000L, decoder.parse(rs, 1, pos -> descriptor));
+    }
+    // getInt and getObject(pos, Integer.class) fail for the first value only
+    assertEquals(2, failures.get());
+  }
+
+  @Test
+  public void testHintsArePerResultSet() throws SQLException {
+    JDBCRowDesc desc = new JDBCRowDesc(new ColumnDescriptor[] { JDBCColumnDescriptor.wrap(JDBCType.NUMERIC) });
+    AtomicInteger failures = new AtomicInteger();
+    for (int rs = 1; rs <= 2; rs++) {
+      JDBCColumnDescriptorProvider provider = desc.columnProvider();
+      for (int i = 0; i < 3; i++) {
+        assertEquals(BigDecimal.TEN, decoder.decode(provider.apply(1), untyped(BigDecimal.TEN, failures)));
+      }
+      // learnt again by each result set
+      assertEquals(rs, failures.get());
+    }
+    assertEquals(0, ((JDBCColumnDescriptor) desc.columnDescriptors().get(0)).decodeHints());
+  }
+}